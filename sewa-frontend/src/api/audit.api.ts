@@ -1,9 +1,9 @@
 import api from './axios';
-import type { ApiResponse, AuditLogResponse, Page } from '../types/api.types';
+import type { ApiResponse, AuditLogResponse, PageDto } from '../types/api.types';
 
 export const auditApi = {
-    getAll: async (page = 0, size = 10): Promise<Page<AuditLogResponse>> => {
-        const response = await api.get<ApiResponse<Page<AuditLogResponse>>>('/audit-logs', {
+    getAll: async (page = 0, size = 10): Promise<PageDto<AuditLogResponse>> => {
+        const response = await api.get<ApiResponse<PageDto<AuditLogResponse>>>('/audit-logs', {
             params: { page, size },
         });
         return response.data.data;
@@ -29,27 +29,69 @@ api.interceptors.request.use(
     }
 );
 
+// Access tokens are short-lived: on a 401 the refresh token is exchanged once
+// for a new pair and the request is retried. Concurrent 401s share one refresh,
+// since reusing a rotated refresh token revokes the whole session.
+let refreshing: Promise<string> | null = null;
+
+const NO_REFRESH = ['/auth/login', '/auth/refresh', '/auth/logout'];
+
+const refreshAccessToken = (): Promise<string> => {
+    if (!refreshing) {
+        const refreshToken = localStorage.getItem('refreshToken');
+        refreshing = (refreshToken
+            ? axios.post(`${baseURL}/auth/refresh`, { refreshToken }).then((response) => {
+                const data = response.data.data;
+                localStorage.setItem('token', data.token);
+                localStorage.setItem('refreshToken', data.refreshToken);
+                return data.token as string;
+            })
+            : Promise.reject(new Error('No refresh token'))
+        ).finally(() => {
+            refreshing = null;
+        });
+    }
+    return refreshing;
+};
+
+const clearSession = () => {
+    localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
+    localStorage.removeItem('user');
+    // Check if we are already on login page to avoid loops
+    if (!window.location.pathname.includes('/login')) {
+        window.location.href = '/login';
+    }
+};
+
 // Response interceptor for handling errors (e.g., 401 Unauthorized)
 api.interceptors.response.use(
     (response) => {
         console.log(`🟢 API Response: ${response.status} ${response.config.url}`);
         return response;
     },
-    (error) => {
+    async (error) => {
         const status = error.response?.status;
         const message = error.response?.data?.message || error.message || 'Something went wrong';
+        const original = error.config;
+
+        if (status === 401 && original && !original._retried && !NO_REFRESH.includes(original.url)) {
+            original._retried = true;
+            try {
+                const token = await refreshAccessToken();
+                original.headers.Authorization = `Bearer ${token}`;
+                return api(original);
+            } catch {
+                clearSession();
+                return Promise.reject(error);
+            }
+        }
 
         console.error(`🔴 API Error (${status}): ${message}`);
         console.error('Full Error:', error);
 
         if (status === 401) {
-            // Clear token and redirect to login if needed
-            localStorage.removeItem('token');
-            localStorage.removeItem('user');
-            // Check if we are already on login page to avoid loops
-            if (!window.location.pathname.includes('/login')) {
-                window.location.href = '/login';
-            }
+            clearSession();
         }
 
         return Promise.reject(error);
@@ -39,7 +39,7 @@ export default function LoginPage() {
                 roles: Array.from(data.roles), // Set to Array
                 permissions: [] // Permissions might need to be fetched or derived
             };
-            login(data.token, user);
+            login(data.token, user, data.refreshToken);
             toast.success('Login successful! Redirecting...');
             navigate(from, { replace: true });
         },
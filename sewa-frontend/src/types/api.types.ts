@@ -6,6 +6,7 @@ export interface User {
 
 export interface AuthResponse {
     token: string;
+    refreshToken?: string;
     username: string;
     roles: string[];
 }
@@ -48,6 +49,21 @@ export interface Page<T> {
     empty: boolean;
 }
 
+/** Paginated listings served as PageDto (no pageable/sort objects) */
+export interface PageDto<T> {
+    content: T[];
+    totalPages: number;
+    totalElements: number;
+    number: number;
+    size: number;
+    first: boolean;
+    last: boolean;
+    empty: boolean;
+    numberOfElements: number;
+    /** True when the total is cached or estimated rather than counted */
+    approximateTotal: boolean;
+}
+
 export const MembershipStatus = {
     PENDING: 'PENDING',
     APPROVED: 'APPROVED',
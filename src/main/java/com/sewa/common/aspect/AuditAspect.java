@@ -1,46 +1,103 @@
 package com.sewa.common.aspect;
 
-import com.sewa.entity.AuditLog;
-import com.sewa.entity.User;
-import com.sewa.repository.AuditLogRepository;
+import com.sewa.common.audit.AuditEvent;
+import com.sewa.common.audit.AuditLogWriter;
+import com.sewa.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.Map;
 
+/**
+ * Audits mutating service calls (non read-only {@code @Transactional} methods).
+ * Only an {@link AuditEvent} is built on the request thread; it is handed to
+ * the {@link AuditLogWriter} after the transaction commits, so neither audit
+ * I/O nor rolled-back actions ever reach the request path or the log.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuditAspect {
 
-    private final AuditLogRepository auditLogRepository;
+    private static final ClassValue<Method> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method method = type.getMethod("getId");
+                return Integer.class.equals(method.getReturnType()) ? method : null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
 
-    @AfterReturning(pointcut = "execution(* com.sewa.service.*.*(..)) && !execution(* com.sewa.service.impl.AuthService.*(..))", returning = "result")
-    public void logServiceAction(JoinPoint joinPoint, Object result) {
+    private final AuditLogWriter auditLogWriter;
+
+    @AfterReturning(pointcut = "execution(public * com.sewa.service.impl.*.*(..)) && !within(com.sewa.service.impl.AuthServiceImpl) && @annotation(transactional)", returning = "result", argNames = "joinPoint,transactional,result")
+    public void logServiceAction(JoinPoint joinPoint, Transactional transactional, Object result) {
+        if (transactional.readOnly()) {
+            return;
+        }
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.getPrincipal() instanceof User user) {
-                String action = joinPoint.getSignature().getName();
-                String entity = joinPoint.getTarget().getClass().getSimpleName().replace("Service", "");
-
-                AuditLog logEntry = AuditLog.builder()
-                        .user(user)
-                        .action(action)
-                        .entity(entity)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-
-                auditLogRepository.save(logEntry);
+            String entity = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName().replace("ServiceImpl", "");
+            AuditEvent event = new AuditEvent(currentUserId(), joinPoint.getSignature().getName(), entity,
+                    entityId(result, joinPoint.getArgs()), LocalDateTime.now());
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        auditLogWriter.enqueue(event);
+                    }
+                });
+            } else {
+                auditLogWriter.enqueue(event);
             }
         } catch (Exception e) {
-            log.error("Failed to log audit action", e);
+            log.error("Failed to record audit action", e);
+        }
+    }
+
+    private Integer currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            return null;
+        }
+        if (auth.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getId();
+        }
+        if (auth.getDetails() instanceof Map<?, ?> details && details.get("userId") instanceof Integer userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    /** The id of the returned entity/DTO, else the first Integer argument (e.g. deleteX(id)). */
+    private Integer entityId(Object result, Object[] args) throws ReflectiveOperationException {
+        if (result != null) {
+            Method accessor = ID_ACCESSORS.get(result.getClass());
+            if (accessor != null) {
+                return (Integer) accessor.invoke(result);
+            }
+        }
+        for (Object arg : args) {
+            if (arg instanceof Integer id) {
+                return id;
+            }
         }
+        return null;
     }
 }
@@ -0,0 +1,159 @@
+package com.sewa.common.aspect;
+
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * With virtual threads there is no Tomcat worker limit, so thousands of
+ * requests could pile up on the small Hikari pool. This aspect turns the pool
+ * size into a fair, bounded queue: service and repository calls must take a
+ * permit first, and requests that wait longer than the timeout fail fast with
+ * 503 instead of exhausting the pool's own connection timeout.
+ * <p>
+ * Nested calls on the same thread (service -> repository) reuse the permit
+ * already held, so a single request never needs more than one. The aspect
+ * runs outside the transaction interceptor, so a connection is only checked
+ * out once the permit is held; Open Session in View is turned off in this
+ * mode for the same reason (see VirtualThreadEnvironmentPostProcessor).
+ * {@link LongRunningRead} calls (streaming exports) draw from their own pool
+ * of {@code export-max-concurrent} permits, carved out of the total.
+ * <p>
+ * Password hashing outside a transaction (login) holds no connection, so the
+ * permit is handed back while the thread waits on the hashing pool and taken
+ * again afterwards; a burst of logins queues there instead of starving
+ * ordinary reads of permits.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class DatabaseAdmissionAspect implements MetricsSource {
+
+    private static final ThreadLocal<Held> HELD = ThreadLocal.withInitial(Held::new);
+
+    /** Nesting depth of admitted calls on this thread and the pool of the permit they share */
+    private static final class Held {
+        int depth;
+        Semaphore pool;
+    }
+
+    private final Semaphore permits;
+    private final Semaphore exportPermits;
+    private final int maxConcurrent;
+    private final int maxExports;
+    private final long timeoutMs;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong rejectedExports = new AtomicLong();
+    private final AtomicLong releasedForHashing = new AtomicLong();
+
+    public DatabaseAdmissionAspect(
+            @Value("${sewa.db.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${sewa.db.admission.export-max-concurrent:1}") int maxExports,
+            @Value("${sewa.db.admission.timeout-ms:5000}") long timeoutMs) {
+        // Exports are part of the total so both pools together never exceed the connection pool
+        this.maxExports = Math.max(1, Math.min(maxExports, maxConcurrent - 1));
+        this.maxConcurrent = Math.max(1, maxConcurrent - this.maxExports);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        this.exportPermits = new Semaphore(this.maxExports, true);
+        this.timeoutMs = timeoutMs;
+        log.info("Database admission control enabled: {} permits (+{} for exports), {} ms timeout",
+                this.maxConcurrent, this.maxExports, timeoutMs);
+    }
+
+    @Around("execution(public * com.sewa.service..*(..)) || target(org.springframework.data.repository.Repository)")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(joinPoint, permits, rejected);
+    }
+
+    @Around("@annotation(com.sewa.common.aspect.LongRunningRead)")
+    public Object admitExport(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(joinPoint, exportPermits, rejectedExports);
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder+.matches(..)) "
+            + "|| execution(* org.springframework.security.crypto.password.PasswordEncoder+.encode(..))")
+    public Object releaseWhileHashing(ProceedingJoinPoint joinPoint) throws Throwable {
+        Held held = HELD.get();
+        if (held.pool == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Nothing held, or a transaction keeps its connection anyway
+            return joinPoint.proceed();
+        }
+        Semaphore pool = held.pool;
+        held.pool = null;
+        pool.release();
+        releasedForHashing.incrementAndGet();
+        Object result = joinPoint.proceed();
+        acquire(pool, pool == permits ? rejected : rejectedExports);
+        held.pool = pool;
+        return result;
+    }
+
+    private Object admit(ProceedingJoinPoint joinPoint, Semaphore pool, AtomicLong rejections) throws Throwable {
+        Held held = HELD.get();
+        if (held.depth > 0) {
+            held.depth++;
+            try {
+                return joinPoint.proceed();
+            } finally {
+                held.depth--;
+            }
+        }
+
+        acquire(pool, rejections);
+        held.depth = 1;
+        held.pool = pool;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            held.depth = 0;
+            // Null when the permit was handed back for hashing and could not be taken again
+            if (held.pool != null) {
+                held.pool = null;
+                pool.release();
+            }
+        }
+    }
+
+    private void acquire(Semaphore pool, AtomicLong rejections) throws InterruptedException {
+        if (!pool.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            rejections.incrementAndGet();
+            throw new ServiceUnavailableException("Server is busy, please retry");
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "databaseAdmission";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("maxConcurrent", maxConcurrent);
+        metrics.put("available", permits.availablePermits());
+        metrics.put("queued", permits.getQueueLength());
+        metrics.put("rejected", rejected.get());
+        metrics.put("releasedForHashing", releasedForHashing.get());
+        metrics.put("exportMaxConcurrent", maxExports);
+        metrics.put("exportAvailable", exportPermits.availablePermits());
+        metrics.put("exportRejected", rejectedExports.get());
+        return metrics;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sewa.common.aspect;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read that holds its connection for as long as a client takes to
+ * consume the result (streaming exports). {@link DatabaseAdmissionAspect}
+ * admits such calls from a separate, smaller pool so they cannot starve
+ * ordinary requests.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LongRunningRead {
+}
@@ -0,0 +1,7 @@
+package com.sewa.common.audit;
+
+import java.time.LocalDateTime;
+
+/** Immutable audit record captured on the request thread and written later. */
+public record AuditEvent(Integer userId, String action, String entity, Integer entityId, LocalDateTime createdAt) {
+}
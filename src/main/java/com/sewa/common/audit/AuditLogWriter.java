@@ -0,0 +1,142 @@
+package com.sewa.common.audit;
+
+import com.sewa.common.metrics.MetricsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit events to {@code audit_logs} off the request path. Requests
+ * only {@link #enqueue} into a bounded ring buffer; a single daemon thread
+ * drains it and inserts in JDBC batches. When the buffer is full the event is
+ * dropped and counted rather than slowing the request down. On shutdown the
+ * buffer is drained before the data source goes away.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements MetricsSource {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (user_id, action, entity, entity_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+            @Value("${sewa.audit.buffer-capacity:8192}") int capacity,
+            @Value("${sewa.audit.batch-size:200}") int batchSize,
+            @Value("${sewa.audit.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.writerThread = new Thread(this::run, "audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /** Never blocks; returns false if the event was dropped because the buffer is full. */
+    public boolean enqueue(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                log.warn("Audit buffer full ({} slots); {} events dropped so far", buffer.capacity(), dropped.get());
+            }
+            return false;
+        }
+        enqueued.incrementAndGet();
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                if (event.userId() != null) {
+                    ps.setInt(1, event.userId());
+                } else {
+                    ps.setNull(1, Types.INTEGER);
+                }
+                ps.setString(2, event.action());
+                ps.setString(3, event.entity());
+                if (event.entityId() != null) {
+                    ps.setInt(4, event.entityId());
+                } else {
+                    ps.setNull(4, Types.INTEGER);
+                }
+                ps.setTimestamp(5, Timestamp.valueOf(event.createdAt()));
+            });
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        if (writerThread.isAlive()) {
+            log.warn("Audit writer did not stop in time; {} events left unwritten", buffer.size());
+            return;
+        }
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+        log.info("Audit writer stopped: {} written, {} dropped, {} failed", written.get(), dropped.get(), failed.get());
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "auditLog";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("capacity", buffer.capacity());
+        metrics.put("pending", buffer.size());
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("written", written.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("failed", failed.get());
+        return metrics;
+    }
+}
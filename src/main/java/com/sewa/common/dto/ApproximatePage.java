@@ -0,0 +1,20 @@
+package com.sewa.common.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** A page whose total came from a cache or planner statistics rather than COUNT(*). */
+public class ApproximatePage<T> extends PageImpl<T> {
+
+    public ApproximatePage(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+
+    @Override
+    public <U> ApproximatePage<U> map(Function<? super T, ? extends U> converter) {
+        return new ApproximatePage<>(getConvertedContent(converter), getPageable(), getTotalElements());
+    }
+}
@@ -0,0 +1,43 @@
+package com.sewa.common.dto;
+
+import com.sewa.common.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated response. Unlike {@link PageDto} there is no page number
+ * and no exact total: pass {@code nextCursor} back as {@code cursor} to get the
+ * following page. {@code estimatedTotal} is only filled when requested and
+ * the listing is unfiltered.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    private int numberOfElements;
+    private Long estimatedTotal;
+
+    public static <E, T> CursorPageDto<T> from(Window<E> window, Function<E, T> mapper, Sort sort, int size,
+            Long estimatedTotal) {
+        return CursorPageDto.<T>builder()
+                .content(window.getContent().stream().map(mapper).toList())
+                .nextCursor(KeysetCursor.next(window, sort))
+                .hasNext(window.hasNext())
+                .size(size)
+                .numberOfElements(window.size())
+                .estimatedTotal(estimatedTotal)
+                .build();
+    }
+}
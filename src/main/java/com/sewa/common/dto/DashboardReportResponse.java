@@ -2,6 +2,7 @@ package com.sewa.common.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -17,4 +18,7 @@ public class DashboardReportResponse {
     private Map<String, Long> membersByEducationalLevel;
     private Map<String, Long> membersByWorkingSector;
     private Map<String, Long> studentsByEducationalLevel;
+
+    /** Sections that could not be loaded and are reported as zero; null when complete */
+    private List<String> unavailableSections;
 }
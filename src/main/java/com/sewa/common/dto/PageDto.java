@@ -26,6 +26,8 @@ public class PageDto<T> {
     private boolean last;
     private boolean empty;
     private int numberOfElements;
+    /** True when totalElements/totalPages are cached or estimated rather than exact */
+    private boolean approximateTotal;
 
     public static <T> PageDto<T> from(Page<T> page) {
         return PageDto.<T>builder()
@@ -38,6 +40,7 @@ public class PageDto<T> {
                 .last(page.isLast())
                 .empty(page.isEmpty())
                 .numberOfElements(page.getNumberOfElements())
+                .approximateTotal(page instanceof ApproximatePage)
                 .build();
     }
 }
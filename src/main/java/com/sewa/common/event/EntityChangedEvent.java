@@ -0,0 +1,16 @@
+package com.sewa.common.event;
+
+/**
+ * Published after an entity is inserted, updated or removed through JPA.
+ * Caches subscribe to it (usually after commit) to drop stale entries.
+ */
+public record EntityChangedEvent(Object entity, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public boolean isOf(Class<?> type) {
+        return type.isInstance(entity);
+    }
+}
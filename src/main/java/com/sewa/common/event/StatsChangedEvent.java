@@ -0,0 +1,55 @@
+package com.sewa.common.event;
+
+import com.sewa.entity.Chapter;
+import com.sewa.entity.Member;
+import com.sewa.entity.Student;
+
+/**
+ * Domain event describing how a write moved a row between dashboard
+ * aggregates. {@code before}/{@code after} are the buckets the row counted in
+ * before and after the write; null means it did not count (not yet created,
+ * or soft-deleted).
+ */
+public record StatsChangedEvent(Subject subject, Bucket before, Bucket after) {
+
+    public enum Subject {
+        USER, MEMBER, STUDENT, CHAPTER
+    }
+
+    /** Grouping keys a row contributes to; fields not relevant to the subject are null. */
+    public record Bucket(String chapter, String educationalLevel, String workingSector) {
+        public static final Bucket COUNTED = new Bucket(null, null, null);
+    }
+
+    public static Bucket bucketOf(Member member) {
+        return bucketOf(member,
+                member.getEducationalLevel() != null ? member.getEducationalLevel().getName() : null,
+                member.getWorkingSector() != null ? member.getWorkingSector().getName() : null);
+    }
+
+    /** For callers that already know the master names (avoids initializing reference proxies). */
+    public static Bucket bucketOf(Member member, String educationalLevel, String workingSector) {
+        if (Boolean.TRUE.equals(member.getIsDeleted())) {
+            return null;
+        }
+        return new Bucket(member.getChapter() != null ? member.getChapter().getChapterName() : null,
+                educationalLevel, workingSector);
+    }
+
+    public static Bucket bucketOf(Student student) {
+        return bucketOf(student,
+                student.getEducationalLevel() != null ? student.getEducationalLevel().getName() : null);
+    }
+
+    public static Bucket bucketOf(Student student, String educationalLevel) {
+        if (Boolean.TRUE.equals(student.getIsDeleted())) {
+            return null;
+        }
+        return new Bucket(student.getChapter() != null ? student.getChapter().getChapterName() : null,
+                educationalLevel, null);
+    }
+
+    public static Bucket bucketOf(Chapter chapter) {
+        return Boolean.TRUE.equals(chapter.getIsDeleted()) ? null : new Bucket(chapter.getChapterName(), null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sewa.common.event;
+
+import com.sewa.entity.Member;
+import com.sewa.entity.MembershipFee;
+import com.sewa.entity.enums.PaymentStatus;
+import com.sewa.entity.enums.TrendMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Adjustments to the daily trend rollups caused by a write. Like
+ * {@link StatsChangedEvent}, an update is expressed as the old contribution
+ * removed ({@code sign = -1}) plus the new one added.
+ */
+public record TrendChangedEvent(List<Delta> deltas) {
+
+    public record Delta(TrendMetric metric, LocalDate day, int chapterId, String financialYear, long count,
+            BigDecimal amount) {
+    }
+
+    /** Null deltas (rows that do not count) are dropped. */
+    public static TrendChangedEvent of(Delta... deltas) {
+        return new TrendChangedEvent(Arrays.stream(deltas).filter(Objects::nonNull).toList());
+    }
+
+    public static Delta memberJoined(Member member, int sign) {
+        if (Boolean.TRUE.equals(member.getIsDeleted())) {
+            return null;
+        }
+        LocalDate day = member.getJoinedDate() != null ? member.getJoinedDate()
+                : member.getCreatedAt() != null ? member.getCreatedAt().toLocalDate() : LocalDate.now();
+        return new Delta(TrendMetric.MEMBERS_JOINED, day, chapterId(member), "", sign, BigDecimal.ZERO);
+    }
+
+    public static Delta memberApproved(Member member) {
+        return memberApproved(chapterId(member));
+    }
+
+    public static Delta memberApproved(Integer chapterId) {
+        return new Delta(TrendMetric.MEMBERS_APPROVED, LocalDate.now(), chapterId != null ? chapterId : 0, "", 1,
+                BigDecimal.ZERO);
+    }
+
+    /** Only paid fees with a payment date count as collected. */
+    public static Delta feeCollected(MembershipFee fee, int sign) {
+        if (fee.getPaymentStatus() != PaymentStatus.PAID || fee.getPaymentDate() == null
+                || Boolean.TRUE.equals(fee.getIsDeleted())) {
+            return null;
+        }
+        BigDecimal amount = fee.getAmount() != null ? fee.getAmount() : BigDecimal.ZERO;
+        return new Delta(TrendMetric.FEES_COLLECTED, fee.getPaymentDate(),
+                fee.getMember() != null ? chapterId(fee.getMember()) : 0,
+                fee.getFinancialYear() != null ? fee.getFinancialYear() : "",
+                sign, sign < 0 ? amount.negate() : amount);
+    }
+
+    private static int chapterId(Member member) {
+        return member.getChapter() != null && member.getChapter().getId() != null ? member.getChapter().getId() : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sewa.common.metrics;
+
+import java.util.Map;
+
+/**
+ * Implemented by components that expose runtime counters (cache hit/miss,
+ * queue depth, ...) on the admin metrics endpoint.
+ */
+public interface MetricsSource {
+
+    String getMetricsName();
+
+    Map<String, Object> getMetrics();
+}
@@ -0,0 +1,22 @@
+package com.sewa.common.service;
+
+/** How the total of a paginated listing is computed. */
+public enum CountStrategy {
+    /** COUNT(*) on every request. */
+    EXACT,
+    /** COUNT(*) cached per filter combination for a short TTL, dropped when the table changes. */
+    CACHED,
+    /** Planner estimate (pg_class.reltuples) for unfiltered listings; CACHED otherwise. */
+    ESTIMATED;
+
+    public static CountStrategy parse(String value, CountStrategy fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sewa.common.service;
+
+import com.sewa.common.aspect.LongRunningRead;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Consumes a repository {@link Stream} row by row and clears the persistence
+ * context every {@value #CLEAR_EVERY} rows (the fetch size of the streaming
+ * queries), so a scroll over any number of rows keeps the persistence context
+ * (and the heap) flat: entities and whatever they join-fetched or lazily
+ * loaded are dropped in bulk. Streams should preferably project into DTOs,
+ * which are never managed at all. Must run inside a read-only transaction,
+ * which is also what keeps the JDBC cursor open; clearing discards nothing
+ * there.
+ */
+@Component
+public class EntityStreams {
+
+    static final int CLEAR_EVERY = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Runs an export in one read-only transaction, which keeps the cursors it
+     * scrolls open. Admitted from the export pool when admission control is on.
+     */
+    @LongRunningRead
+    @Transactional(readOnly = true)
+    public void export(Runnable work) {
+        work.run();
+    }
+
+    public <T> long forEach(Stream<T> rows, Consumer<? super T> sink) {
+        long count = 0;
+        try (rows) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                sink.accept(row);
+                if (++count % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
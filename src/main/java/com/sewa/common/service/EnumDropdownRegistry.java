@@ -0,0 +1,163 @@
+package com.sewa.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.response.DropdownResponse;
+import com.sewa.entity.enums.CalendarEventType;
+import com.sewa.entity.enums.ChapterType;
+import com.sewa.entity.enums.ContentType;
+import com.sewa.entity.enums.Designation;
+import com.sewa.entity.enums.Gender;
+import com.sewa.entity.enums.MembershipStatus;
+import com.sewa.entity.enums.PaymentStatus;
+import com.sewa.entity.enums.Visibility;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enum-backed dropdowns never change while the application runs, so their
+ * responses are encoded once at startup: the JSON body, a gzip variant when
+ * it is smaller, and a strong ETag per representation. A request only picks
+ * one of the prebuilt {@link ResponseEntity}s (or answers 304); nothing is
+ * allocated or serialized per call. The ETag is derived from the content, so
+ * a deploy that changes an enum invalidates client copies on revalidation.
+ */
+@Service
+@Slf4j
+public class EnumDropdownRegistry {
+
+    private final Map<String, Payload> payloads = new LinkedHashMap<>();
+
+    private record Payload(String etag, ResponseEntity<byte[]> identity, String gzipEtag,
+            ResponseEntity<byte[]> gzip) {
+    }
+
+    public EnumDropdownRegistry(ObjectMapper objectMapper,
+            @Value("${sewa.dropdowns.max-age-seconds:86400}") long maxAgeSeconds) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+        register(objectMapper, cacheControl, "member-status", MembershipStatus.values(), "Statuses fetched");
+        register(objectMapper, cacheControl, "student-status", MembershipStatus.values(), "Statuses fetched");
+        register(objectMapper, cacheControl, "chapter-types", ChapterType.values(), "Chapter types fetched");
+        register(objectMapper, cacheControl, "content-types", ContentType.values(), "Content types fetched");
+        register(objectMapper, cacheControl, "visibility-types", Visibility.values(), "Visibility types fetched");
+        register(objectMapper, cacheControl, "calendar-event-types", CalendarEventType.values(),
+                "Event types fetched");
+        register(objectMapper, cacheControl, "designations", Designation.values(), "Designations fetched");
+        register(objectMapper, cacheControl, "payment-status", PaymentStatus.values(), "Payment statuses fetched");
+        register(objectMapper, cacheControl, "genders", Gender.values(), "Genders fetched");
+        log.info("Prebuilt {} enum dropdown responses", payloads.size());
+    }
+
+    /** The prebuilt response for {@code name}, gzip-encoded if the client accepts it, or null for a 304. */
+    public ResponseEntity<byte[]> respond(String name, WebRequest request) {
+        Payload payload = payloads.get(name);
+        if (payload == null) {
+            throw new IllegalArgumentException("Unknown dropdown: " + name);
+        }
+        boolean gzip = payload.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? payload.gzipEtag() : payload.etag())) {
+            return null;
+        }
+        return gzip ? payload.gzip() : payload.identity();
+    }
+
+    private void register(ObjectMapper objectMapper, CacheControl cacheControl, String name, Enum<?>[] values,
+            String message) {
+        List<DropdownResponse> list = Arrays.stream(values)
+                .map(e -> new DropdownResponse(e.name(), e.name()))
+                .toList();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponseBuilder.success(list, message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode dropdown " + name, e);
+        }
+        String etag = etag(body, "");
+        ResponseEntity<byte[]> identity = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .body(body);
+
+        byte[] compressed = gzip(body);
+        String gzipEtag = null;
+        ResponseEntity<byte[]> gzip = null;
+        if (compressed.length < body.length) {
+            gzipEtag = etag(body, "-gz");
+            gzip = ResponseEntity.ok()
+                    .eTag(gzipEtag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(compressed.length)
+                    .body(compressed);
+        }
+        payloads.put(name, new Payload(etag, identity, gzipEtag, gzip));
+    }
+
+    /** True unless gzip is absent or explicitly refused with {@code q=0}. */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < tokens.length; i++) {
+                    String param = tokens[i].trim().replace(" ", "");
+                    if (param.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(param.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body, String suffix) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + suffix + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
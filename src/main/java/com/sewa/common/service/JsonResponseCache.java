@@ -0,0 +1,152 @@
+package com.sewa.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.metrics.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of fully serialized JSON responses for near-static
+ * lists (master data, dropdowns). A hit costs neither a query nor a Jackson
+ * pass; the body is written as stored bytes with a strong ETag derived from
+ * them, and {@code If-None-Match} gets a 304. Each entry names the entity
+ * types it is built from and is dropped once a change to any of them
+ * commits. A load that overlaps such a change is served but not stored.
+ */
+@Service
+@RequiredArgsConstructor
+public class JsonResponseCache implements MetricsSource {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public record Entry(byte[] body, String etag) {
+    }
+
+    /**
+     * @param key       name of the cached response
+     * @param dependsOn entity types whose changes invalidate it
+     * @param loader    builds the response object; only called on a miss
+     */
+    public Entry get(String key, List<Class<?>> dependsOn, Supplier<?> loader) {
+        Counters stats = counters.computeIfAbsent(key, k -> new Counters(List.copyOf(dependsOn)));
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            stats.hits.incrementAndGet();
+            return entry;
+        }
+        stats.misses.incrementAndGet();
+        long loadedAt = stats.generation.get();
+        entry = serialize(loader.get());
+        entries.put(key, entry);
+        if (stats.generation.get() != loadedAt) {
+            // Invalidated while loading; the data may predate the change
+            entries.remove(key, entry);
+        }
+        return entry;
+    }
+
+    /** 304 when the client already has this version, otherwise the stored bytes. */
+    public ResponseEntity<byte[]> respond(String key, List<Class<?>> dependsOn, Supplier<?> loader,
+            WebRequest request) {
+        Entry entry = get(key, dependsOn, loader);
+        if (request.checkNotModified(entry.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        counters.forEach((key, stats) -> {
+            if (stats.dependsOn.stream().anyMatch(event::isOf)) {
+                stats.generation.incrementAndGet();
+                if (entries.remove(key) != null) {
+                    stats.invalidations.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private Entry serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new Entry(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jsonResponseCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long hits = 0;
+        long misses = 0;
+        Map<String, Object> perKey = new LinkedHashMap<>();
+        for (Map.Entry<String, Counters> e : new TreeMap<>(counters).entrySet()) {
+            Counters c = e.getValue();
+            hits += c.hits.get();
+            misses += c.misses.get();
+            Map<String, Object> keyMetrics = new LinkedHashMap<>();
+            keyMetrics.put("cached", entries.containsKey(e.getKey()));
+            keyMetrics.put("hits", c.hits.get());
+            keyMetrics.put("misses", c.misses.get());
+            keyMetrics.put("invalidations", c.invalidations.get());
+            keyMetrics.put("hitRatio", ratio(c.hits.get(), c.misses.get()));
+            perKey.put(e.getKey(), keyMetrics);
+        }
+        metrics.put("entries", entries.size());
+        metrics.put("bytes", entries.values().stream().mapToLong(e -> e.body().length).sum());
+        metrics.put("hits", hits);
+        metrics.put("misses", misses);
+        metrics.put("hitRatio", ratio(hits, misses));
+        metrics.put("keys", perKey);
+        return metrics;
+    }
+
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+
+    private static final class Counters {
+        final List<Class<?>> dependsOn;
+        final AtomicLong generation = new AtomicLong();
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong invalidations = new AtomicLong();
+
+        Counters(List<Class<?>> dependsOn) {
+            this.dependsOn = dependsOn;
+        }
+    }
+}
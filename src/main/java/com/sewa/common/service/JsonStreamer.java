@@ -0,0 +1,94 @@
+package com.sewa.common.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Writes a list endpoint as the usual {@code ApiResponse} envelope, but with
+ * the {@code data} array produced incrementally: each item is serialized as
+ * soon as the producer hands it over and the output is flushed every
+ * {@value #FLUSH_EVERY} items. Memory stays bounded by one item plus the
+ * socket buffer regardless of the number of rows. The whole response is
+ * written inside {@link EntityStreams#export} on the MVC async thread, so the
+ * producer can scroll a repository stream, and nothing is written before the
+ * export has been admitted and its transaction has started.
+ * <p>
+ * Once the first bytes are out the status can no longer change; a failure
+ * midway is logged and leaves a truncated (invalid) JSON document, which
+ * clients detect as an error.
+ */
+@Service
+@Slf4j
+public class JsonStreamer {
+
+    static final int FLUSH_EVERY = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EntityStreams entityStreams;
+
+    public JsonStreamer(ObjectMapper objectMapper, EntityStreams entityStreams) {
+        this.objectMapper = objectMapper;
+        this.entityStreams = entityStreams;
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(String message, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> {
+            try {
+                entityStreams.export(() -> write(out, message, producer));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private <T> void write(OutputStream out, String message, Consumer<Consumer<T>> producer) {
+        long[] written = { 0 };
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // A failed stream must not be "repaired" into valid JSON on close
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("data");
+            try {
+                producer.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("Streaming \"{}\" failed after {} items: {}", message, written[0], e.getMessage());
+                generator.close();
+                throw e;
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("count", written[0]);
+            generator.writeNumberField("status", HttpStatus.OK.value());
+            generator.writeObjectField("timestamp", Instant.now());
+            generator.writeEndObject();
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sewa.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out membership codes ({@code SEWAM001}, {@code SEWAS001}, ...). On
+ * PostgreSQL they come from a database sequence, so concurrent approvals on
+ * any number of instances never pick the same number and a whole block is
+ * reserved in one round trip. The sequence is created on first use and moved
+ * up to the highest code already stored. Other databases fall back to an
+ * in-process counter seeded the same way (single instance only).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MembershipCodeAllocator {
+
+    public enum Kind {
+        MEMBER("members", "SEWAM", "member_code_seq"),
+        STUDENT("students", "SEWAS", "student_code_seq");
+
+        private final String table;
+        private final String prefix;
+        private final String sequence;
+
+        Kind(String table, String prefix, String sequence) {
+            this.table = table;
+            this.prefix = prefix;
+            this.sequence = sequence;
+        }
+
+        public String table() {
+            return table;
+        }
+
+        public String format(long number) {
+            return String.format("%s%03d", prefix, number);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TableStatistics tableStatistics;
+
+    private final Set<Kind> sequencesReady = ConcurrentHashMap.newKeySet();
+    private final Map<Kind, Long> localCounters = new EnumMap<>(Kind.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!tableStatistics.isPostgres()) {
+            return;
+        }
+        for (Kind kind : Kind.values()) {
+            try {
+                ensureSequence(kind);
+            } catch (Exception e) {
+                log.warn("Could not prepare {}: {}", kind.sequence, e.getMessage());
+            }
+        }
+    }
+
+    public String allocate(Kind kind) {
+        return allocate(kind, 1).get(0);
+    }
+
+    /**
+     * Reserves {@code count} unused codes, in increasing order. A reserved code
+     * that is already stored (e.g. entered by hand past the counter) is skipped
+     * and the counter is moved past the highest stored code.
+     */
+    public List<String> allocate(Kind kind, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<String> codes = new ArrayList<>(reserve(kind, count));
+        List<String> taken = stored(kind, codes);
+        while (!taken.isEmpty()) {
+            log.warn("{} codes {} are already in use; moving past the highest stored code", kind, taken);
+            codes.removeAll(taken);
+            moveToHighestCode(kind);
+            List<String> more = reserve(kind, count - codes.size());
+            codes.addAll(more);
+            taken = stored(kind, more);
+        }
+        return codes;
+    }
+
+    private List<String> reserve(Kind kind, int count) {
+        if (tableStatistics.isPostgres()) {
+            ensureSequence(kind);
+            return jdbcTemplate.queryForList("SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)",
+                    Long.class, kind.sequence, count).stream().sorted().map(kind::format).toList();
+        }
+        List<String> codes = new ArrayList<>(count);
+        synchronized (localCounters) {
+            long next = localCounters.computeIfAbsent(kind, this::highestCode);
+            for (int i = 0; i < count; i++) {
+                codes.add(kind.format(++next));
+            }
+            localCounters.put(kind, next);
+        }
+        return codes;
+    }
+
+    private List<String> stored(Kind kind, List<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(codes.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT membership_code FROM " + kind.table
+                + " WHERE membership_code IN (" + placeholders + ")", String.class, codes.toArray());
+    }
+
+    private void ensureSequence(Kind kind) {
+        if (sequencesReady.contains(kind)) {
+            return;
+        }
+        synchronized (sequencesReady) {
+            if (sequencesReady.contains(kind)) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + kind.sequence);
+            moveToHighestCode(kind);
+            sequencesReady.add(kind);
+        }
+    }
+
+    private void moveToHighestCode(Kind kind) {
+        long highest = highestCode(kind);
+        if (!tableStatistics.isPostgres()) {
+            synchronized (localCounters) {
+                localCounters.merge(kind, highest, Math::max);
+            }
+            return;
+        }
+        // One statement, and only ever forward: another instance may be drawing numbers at the same time.
+        // The number drawn to compare against is skipped, which only leaves a gap.
+        Long moved = jdbcTemplate.queryForObject("SELECT CASE WHEN ? > nextval(CAST(? AS regclass)) "
+                + "THEN setval(CAST(? AS regclass), ?) END", Long.class, highest, kind.sequence, kind.sequence, highest);
+        if (moved != null) {
+            log.info("{} moved to {}", kind.sequence, moved);
+        }
+    }
+
+    /**
+     * Highest number among stored codes with this prefix (codes assigned by hand are skipped if not numeric).
+     * Digits are mapped to '0' and removed, as H2's TRANSLATE does not delete characters.
+     */
+    private long highestCode(Kind kind) {
+        String digits = "SUBSTRING(membership_code, " + (kind.prefix.length() + 1) + ")";
+        Long highest = jdbcTemplate.queryForObject("SELECT MAX(CASE WHEN LENGTH(" + digits + ") BETWEEN 1 AND 18 "
+                + "AND REPLACE(TRANSLATE(" + digits + ", '123456789', '000000000'), '0', '') = '' "
+                + "THEN CAST(" + digits + " AS BIGINT) END) "
+                + "FROM " + kind.table + " WHERE membership_code LIKE ?", Long.class, kind.prefix + "%");
+        return highest != null ? highest : 0;
+    }
+}
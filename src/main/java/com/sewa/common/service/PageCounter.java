@@ -0,0 +1,135 @@
+package com.sewa.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sewa.common.dto.ApproximatePage;
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.metrics.MetricsSource;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Builds a {@link Page} from a {@link Slice} query plus a total computed with
+ * the selected {@link CountStrategy}, so listings only pay for COUNT(*) when
+ * they actually need an exact number. The strategy comes from the request
+ * (e.g. {@code ?count=estimated}), else {@code sewa.pagination.count-strategy.<endpoint>},
+ * else {@code sewa.pagination.count-strategy.default}.
+ */
+@Service
+@Slf4j
+public class PageCounter implements MetricsSource {
+
+    private final TableStatistics tableStatistics;
+    private final Environment environment;
+    private final CountStrategy defaultStrategy;
+
+    /** Exact counts keyed by "table|filters"; dropped per table on writes */
+    private final Cache<String, Long> counts;
+
+    private final AtomicLong exact = new AtomicLong();
+    private final AtomicLong cached = new AtomicLong();
+    private final AtomicLong estimated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    public PageCounter(TableStatistics tableStatistics, Environment environment,
+            @Value("${sewa.pagination.count-strategy.default:EXACT}") String defaultStrategy,
+            @Value("${sewa.pagination.count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.tableStatistics = tableStatistics;
+        this.environment = environment;
+        this.defaultStrategy = CountStrategy.parse(defaultStrategy, CountStrategy.EXACT);
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * @param endpoint   configuration key of the listing, e.g. {@code members}
+     * @param table      table the listing reads; used for estimates and invalidation
+     * @param filterKey  stable representation of the active filters, or null when unfiltered
+     * @param requested  strategy requested by the client, may be null
+     * @param slice      the page query without a count
+     * @param exactCount COUNT(*) matching the same filters
+     */
+    public <T> Page<T> page(String endpoint, String table, String filterKey, String requested, Pageable pageable,
+            Supplier<Slice<T>> slice, LongSupplier exactCount) {
+        Slice<T> content = slice.get();
+        if (pageable.getOffset() == 0 && !content.hasNext()) {
+            // Everything fits on the first page; the total is known without counting
+            skipped.incrementAndGet();
+            return new PageImpl<>(content.getContent(), pageable, content.getNumberOfElements());
+        }
+
+        CountStrategy strategy = CountStrategy.parse(requested, CountStrategy.parse(
+                environment.getProperty("sewa.pagination.count-strategy." + endpoint), defaultStrategy));
+        if (strategy == CountStrategy.EXACT) {
+            exact.incrementAndGet();
+            return new PageImpl<>(content.getContent(), pageable, exactCount.getAsLong());
+        }
+
+        Long total = null;
+        if (strategy == CountStrategy.ESTIMATED && filterKey == null) {
+            total = tableStatistics.estimatedRowCount(table);
+            if (total != null) {
+                estimated.incrementAndGet();
+            }
+        }
+        if (total == null) {
+            String key = table + "|" + (filterKey != null ? filterKey : "");
+            total = counts.get(key, k -> {
+                exact.incrementAndGet();
+                return exactCount.getAsLong();
+            });
+            cached.incrementAndGet();
+        }
+
+        // Never report fewer rows than we can see
+        long minimum = pageable.getOffset() + content.getNumberOfElements() + (content.hasNext() ? 1 : 0);
+        return new ApproximatePage<>(content.getContent(), pageable, Math.max(total, minimum));
+    }
+
+    /**
+     * Only JPA writes publish this event. Tables written over JDBC, such as
+     * audit_logs, never get their cached counts dropped; those expire with the TTL.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Table table = event.entity().getClass().getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            String prefix = table.name() + "|";
+            counts.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "pageCounts";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("defaultStrategy", defaultStrategy);
+        metrics.put("cachedCounts", counts.estimatedSize());
+        metrics.put("exactQueries", exact.get());
+        metrics.put("cacheLookups", cached.get());
+        metrics.put("servedFromEstimate", estimated.get());
+        metrics.put("countSkipped", skipped.get());
+        return metrics;
+    }
+}
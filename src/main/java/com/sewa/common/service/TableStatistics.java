@@ -0,0 +1,45 @@
+package com.sewa.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Planner statistics as a cheap substitute for {@code COUNT(*)}. The value is
+ * as fresh as the last ANALYZE/autovacuum, which is good enough for "about N
+ * rows" in a paginated UI.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TableStatistics {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    /** Estimated row count of the table, or null when unknown (not PostgreSQL, or never analyzed). */
+    public Long estimatedRowCount(String table) {
+        if (!isPostgres()) {
+            return null;
+        }
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+        if (rows.isEmpty() || rows.get(0) == null || rows.get(0) < 0) {
+            return null;
+        }
+        return rows.get(0);
+    }
+
+    public boolean isPostgres() {
+        if (postgres == null) {
+            postgres = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
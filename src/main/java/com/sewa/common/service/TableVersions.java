@@ -0,0 +1,114 @@
+package com.sewa.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.metrics.MetricsSource;
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap aggregate version of a table, {@code COUNT(*)} plus the latest
+ * {@code updated_at}/{@code created_at}, used as the validator for
+ * conditional GETs on collections. Any insert, update (including soft
+ * deletes) or hard delete changes one of the two. A table without those
+ * columns gets a count-only version, which misses in-place updates, so
+ * such tables should not back a validator. Versions are kept for a
+ * short TTL and dropped as soon as a local write to the table commits; the
+ * TTL bounds how long a write made by another instance can go unnoticed.
+ */
+@Service
+public class TableVersions implements MetricsSource {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Version> versions;
+    private final Map<String, String> queriesByTable = new ConcurrentHashMap<>();
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+
+    public record Version(long count, long lastModified) {
+    }
+
+    public TableVersions(JdbcTemplate jdbcTemplate,
+            @Value("${sewa.http.conditional.version-ttl-seconds:5}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(100)
+                .build();
+    }
+
+    /** @param table a table name from an entity's {@code @Table}; never user input */
+    public Version version(String table) {
+        lookups.incrementAndGet();
+        return versions.get(table, this::load);
+    }
+
+    private Version load(String table) {
+        queries.incrementAndGet();
+        return jdbcTemplate.queryForObject(queriesByTable.computeIfAbsent(table, this::versionQuery),
+                (rs, rowNum) -> {
+                    Timestamp latest = rs.getTimestamp(2);
+                    return new Version(rs.getLong(1), latest != null ? latest.getTime() : 0L);
+                });
+    }
+
+    private String versionQuery(String table) {
+        Set<String> columns = jdbcTemplate.query("SELECT * FROM " + table + " WHERE 1 = 0", rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            Set<String> names = new HashSet<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                names.add(metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+            }
+            return names;
+        });
+        String latest;
+        if (columns.contains("updated_at") && columns.contains("created_at")) {
+            latest = "COALESCE(MAX(updated_at), MAX(created_at))";
+        } else if (columns.contains("updated_at")) {
+            latest = "MAX(updated_at)";
+        } else if (columns.contains("created_at")) {
+            latest = "MAX(created_at)";
+        } else {
+            latest = "NULL";
+        }
+        return "SELECT COUNT(*), " + latest + " FROM " + table;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Table table = event.entity().getClass().getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            versions.invalidate(table.name());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "tableVersions";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cached", versions.estimatedSize());
+        metrics.put("lookups", lookups.get());
+        metrics.put("queries", queries.get());
+        return metrics;
+    }
+}
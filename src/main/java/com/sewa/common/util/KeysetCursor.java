@@ -0,0 +1,90 @@
+package com.sewa.common.util;
+
+import com.sewa.exception.SewaException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque cursor for keyset (seek) pagination. The cursor carries the sort
+ * field, direction and the sort key plus id of the last row returned, so the
+ * next page is a {@code WHERE (key, id) > (?, ?)} seek instead of an OFFSET.
+ * Only whitelisted sort fields are accepted; each comes with a parser that
+ * restores the typed key value. A cursor that does not decode, or whose keys
+ * do not match its sort, is rejected as a bad request ({@link SewaException}).
+ */
+public final class KeysetCursor {
+
+    public static final String ID = "id";
+
+    private KeysetCursor() {
+    }
+
+    /** Sort plus scroll position for a request, taken from the cursor when present. */
+    public record Request(Sort sort, ScrollPosition position) {
+    }
+
+    public static Request resolve(String cursor, String sortField, String direction,
+            Map<String, Function<String, Object>> sortableFields) {
+        if (cursor == null || cursor.isBlank()) {
+            String field = sortField != null && sortableFields.containsKey(sortField) ? sortField : ID;
+            Sort.Direction dir = Sort.Direction.fromOptionalString(direction).orElse(Sort.Direction.ASC);
+            return new Request(sortOf(field, dir), ScrollPosition.keyset());
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("&");
+            String field = parts[0];
+            Sort.Direction dir = Sort.Direction.fromString(parts[1]);
+            if (!sortableFields.containsKey(field)) {
+                throw new SewaException("Invalid cursor");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 2; i < parts.length; i++) {
+                String[] pair = parts[i].split("=", 2);
+                Function<String, Object> parser = sortableFields.get(pair[0]);
+                if (parser == null) {
+                    throw new SewaException("Invalid cursor");
+                }
+                keys.put(pair[0], parser.apply(URLDecoder.decode(pair[1], StandardCharsets.UTF_8)));
+            }
+            // The seek predicate needs a key for every sort property, and nothing else
+            Sort sort = sortOf(field, dir);
+            if (!keys.keySet().equals(sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet()))) {
+                throw new SewaException("Invalid cursor");
+            }
+            return new Request(sort, ScrollPosition.forward(keys));
+        } catch (SewaException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new SewaException("Invalid cursor");
+        }
+    }
+
+    /** Cursor pointing after the last element of the window, or null on the last page. */
+    public static String next(Window<?> window, Sort sort) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        Sort.Order primary = sort.iterator().next();
+        StringBuilder raw = new StringBuilder(primary.getProperty()).append('&').append(primary.getDirection());
+        position.getKeys().forEach((key, value) -> raw.append('&').append(key).append('=')
+                .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Sort sortOf(String field, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, field);
+        return ID.equals(field) ? sort : sort.and(Sort.by(direction, ID));
+    }
+}
@@ -0,0 +1,146 @@
+package com.sewa.config;
+
+import com.sewa.common.service.TableVersions;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Conditional GET for the public read endpoints. The validator of a response
+ * is derived from the {@link TableVersions} of the tables it is built from
+ * plus the request URI and query string, so it changes whenever any of those
+ * rows change. A matching {@code If-None-Match} (or an {@code If-Modified-Since}
+ * not older than the latest change) is answered with 304 before the
+ * controller runs; otherwise the weak ETag and {@code Last-Modified} are
+ * added and the request proceeds. Runs after the security filter chain.
+ * Only tables with {@code updated_at}/{@code created_at} are listed: the
+ * chapter executives ({@code chapter_members}) have neither, so changing
+ * them touches the owning chapter instead.
+ */
+@Component
+@Slf4j
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private record Rule(List<String> patterns, List<String> tables) {
+    }
+
+    private static final List<Rule> RULES = List.of(
+            new Rule(List.of("/api/v1/chapters", "/api/v1/chapters/*"),
+                    List.of("chapters", "members", "elected_representatives")),
+            new Rule(List.of("/api/v1/contents", "/api/v1/contents/*"), List.of("contents")),
+            new Rule(List.of("/api/v1/representatives/active", "/api/v1/representatives/active/stream"),
+                    List.of("elected_representatives", "members")),
+            new Rule(List.of("/api/v1/notices", "/api/v1/notices/stream"), List.of("notices")));
+
+    /** Every table a validator is built from, so each version query can be checked against the schema. */
+    static List<String> versionedTables() {
+        return RULES.stream().flatMap(rule -> rule.tables().stream()).distinct().toList();
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final TableVersions tableVersions;
+    private final boolean enabled;
+
+    public ConditionalGetFilter(TableVersions tableVersions,
+            @Value("${sewa.http.conditional.enabled:true}") boolean enabled) {
+        this.tableVersions = tableVersions;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))
+                || rule(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = rule(request.getRequestURI());
+        String etag;
+        long lastModified = 0;
+        try {
+            StringBuilder key = new StringBuilder(request.getRequestURI()).append('?')
+                    .append(request.getQueryString() != null ? request.getQueryString() : "");
+            for (String table : rule.tables()) {
+                TableVersions.Version version = tableVersions.version(table);
+                key.append('|').append(table).append(':').append(version.count()).append(':')
+                        .append(version.lastModified());
+                lastModified = Math.max(lastModified, version.lastModified());
+            }
+            etag = "W/\"" + hash(key.toString()) + "\"";
+        } catch (Exception e) {
+            // Validators are an optimisation; never fail the request over them
+            log.warn("Skipping conditional GET for {}: {}", request.getRequestURI(), e.getMessage());
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModified > 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        chain.doFilter(request, response);
+    }
+
+    private boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // Weak comparison, as required for If-None-Match
+            String opaque = etag.substring(2);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified > 0) {
+            try {
+                long since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+                // HTTP dates have one-second precision
+                return since >= 0 && lastModified / 1000 <= since / 1000;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Rule rule(String uri) {
+        for (Rule rule : RULES) {
+            for (String pattern : rule.patterns()) {
+                if (pathMatcher.match(pattern, uri)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String hash(String key) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest, 0, 12);
+    }
+}
@@ -0,0 +1,45 @@
+package com.sewa.config;
+
+import com.sewa.common.metrics.MetricsSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate statement and load counters, for checking how many queries a
+ * listing costs (compare before/after a request). Only populated when
+ * {@code hibernate.generate_statistics} is on ({@code SEWA_HIBERNATE_STATISTICS=true}).
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateStatisticsMetrics implements MetricsSource {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public String getMetricsName() {
+        return "hibernate";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", statistics.isStatisticsEnabled());
+        if (statistics.isStatisticsEnabled()) {
+            metrics.put("preparedStatements", statistics.getPrepareStatementCount());
+            metrics.put("queryExecutions", statistics.getQueryExecutionCount());
+            metrics.put("entityLoads", statistics.getEntityLoadCount());
+            metrics.put("entityFetches", statistics.getEntityFetchCount());
+            metrics.put("collectionFetches", statistics.getCollectionFetchCount());
+            metrics.put("slowestQueryMillis", statistics.getQueryExecutionMaxTime());
+            metrics.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,91 @@
+package com.sewa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets up pg_trgm GIN indexes for member search on PostgreSQL. With them the
+ * {@code ILIKE '%q%'} filters become bitmap index scans instead of a sequential
+ * scan of {@code members}, and results can be ranked by similarity. Every
+ * statement is idempotent and indexes are built CONCURRENTLY, so it is safe to
+ * run on each start against a live database. A CONCURRENTLY build that failed
+ * midway leaves an INVALID index behind, which {@code IF NOT EXISTS} would skip
+ * forever; such an index is dropped and built again.
+ * <p>
+ * {@code sewa.search.mode}: {@code auto} (trigram when available),
+ * {@code trigram} (same, but logs an error if unavailable) or {@code ilike}
+ * (plain unranked search; also used on H2 and other databases).
+ */
+@Component
+@Slf4j
+public class SearchIndexInitializer {
+
+    /** Index name to indexed column of {@code members} */
+    private static final Map<String, String> TRIGRAM_INDEXES = Map.of(
+            "idx_members_full_name_trgm", "full_name",
+            "idx_members_membership_code_trgm", "membership_code",
+            "idx_members_phone_trgm", "phone");
+
+    private static final String INDEX_VALIDITY = "SELECT i.indisvalid FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "WHERE c.relname = ? AND n.nspname = current_schema()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String mode;
+
+    private volatile boolean trigramEnabled;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate, @Value("${sewa.search.mode:auto}") String mode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = mode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if ("ilike".equalsIgnoreCase(mode)) {
+            log.info("Member search mode: ilike");
+            return;
+        }
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            log.info("Member search mode: ilike ({} has no pg_trgm)", product);
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            TRIGRAM_INDEXES.forEach(this::createIndex);
+            trigramEnabled = true;
+            log.info("Member search mode: trigram");
+        } catch (Exception e) {
+            if ("trigram".equalsIgnoreCase(mode)) {
+                log.error("sewa.search.mode=trigram but pg_trgm could not be set up; falling back to ilike", e);
+            } else {
+                log.warn("pg_trgm not available, member search falls back to ilike: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void createIndex(String name, String column) {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALIDITY, Boolean.class, name);
+        if (valid.contains(Boolean.FALSE)) {
+            log.warn("Index {} is INVALID (an earlier concurrent build failed); rebuilding it", name);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name
+                + " ON members USING gin (" + column + " gin_trgm_ops)");
+    }
+
+    public boolean isTrigramEnabled() {
+        return trigramEnabled;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sewa.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Defaults that only make sense with virtual-thread request handling. Open
+ * Session in View keeps a connection checked out until the response is
+ * written, outside the permits of
+ * {@link com.sewa.common.aspect.DatabaseAdmissionAspect}, so it is switched
+ * off unless {@code spring.jpa.open-in-view} is set explicitly.
+ */
+public class VirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && !environment.containsProperty("spring.jpa.open-in-view")) {
+            environment.getPropertySources().addLast(
+                    new MapPropertySource("sewaVirtualThreadDefaults", Map.of("spring.jpa.open-in-view", "false")));
+        }
+    }
+}
@@ -3,21 +3,28 @@ package com.sewa.controller;
 import com.sewa.common.dto.ApiResponse;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.common.dto.DashboardReportResponse;
-import com.sewa.repository.ChapterRepository;
-import com.sewa.repository.MemberRepository;
-import com.sewa.repository.UserRepository;
-import com.sewa.repository.StudentRepository;
+import com.sewa.dto.response.TrendBreakdownItem;
+import com.sewa.dto.response.TrendSeriesResponse;
+import com.sewa.entity.enums.TrendMetric;
+import com.sewa.exception.SewaException;
+import com.sewa.service.DashboardStatsService;
+import com.sewa.service.TrendService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/admin/dashboard")
@@ -26,35 +33,73 @@ import java.util.stream.Collectors;
 @Tag(name = "Admin Dashboard", description = "APIs for administrative statistics and overview")
 public class AdminDashboardController {
 
-    private final UserRepository userRepository;
-    private final MemberRepository memberRepository;
-    private final StudentRepository studentRepository;
-    private final ChapterRepository chapterRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final TrendService trendService;
 
     @GetMapping("/stats")
-    @Operation(summary = "Get detailed dashboard stats", description = "Fetch aggregate counts and grouped distributions")
-    public ResponseEntity<ApiResponse<DashboardReportResponse>> getStats() {
-        DashboardReportResponse stats = DashboardReportResponse.builder()
-                .totalUsers(userRepository.count())
-                .totalMembers(memberRepository.countActiveMembers())
-                .totalStudents(studentRepository.count())
-                .totalChapters(chapterRepository.count())
-                .membersByChapter(mapGroupedResult(memberRepository.countMembersByChapter()))
-                .studentsByChapter(mapGroupedResult(studentRepository.countStudentsByChapter()))
-                .membersByEducationalLevel(mapGroupedResult(memberRepository.countMembersByEducationalLevel()))
-                .membersByWorkingSector(mapGroupedResult(memberRepository.countMembersByWorkingSector()))
-                .studentsByEducationalLevel(mapGroupedResult(studentRepository.countStudentsByEducationalLevel()))
-                .build();
-
-        return ResponseEntity.ok(ApiResponseBuilder.success(stats, "Dashboard statistics fetched"));
+    @Operation(summary = "Get detailed dashboard stats", description = "Fetch aggregate counts and grouped distributions (served from memory; supports If-None-Match)")
+    public ResponseEntity<ApiResponse<DashboardReportResponse>> getStats(WebRequest request) {
+        DashboardStatsService.Snapshot snapshot = dashboardStatsService.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .body(ApiResponseBuilder.success(snapshot.report(), "Dashboard statistics fetched"));
     }
 
-    private Map<String, Long> mapGroupedResult(List<Object[]> results) {
-        return results.stream()
-                .filter(res -> res[0] != null)
-                .collect(Collectors.toMap(
-                        res -> res[0].toString(),
-                        res -> (Long) res[1],
-                        (existing, replacement) -> existing));
+    @GetMapping("/trends/{metric}")
+    @Operation(summary = "Get a trend series", description = "members-joined, members-approved or fees-collected per day, week or month over [from, to] (default: last year); downsampled to at most maxPoints")
+    public ResponseEntity<ApiResponse<TrendSeriesResponse>> getTrend(
+            @PathVariable String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) Integer chapterId,
+            @RequestParam(required = false) String financialYear,
+            @RequestParam(required = false) Integer maxPoints) {
+        TrendSeriesResponse series = trendService.getSeries(TrendMetric.fromPath(metric), from, to,
+                parseGranularity(granularity), chapterId, financialYear, maxPoints);
+        return ResponseEntity.ok(ApiResponseBuilder.success(series, "Trend fetched"));
+    }
+
+    @GetMapping("/trends/{metric}/chapters")
+    @Operation(summary = "Get a trend broken down by chapter", description = "Totals per chapter over [from, to] (default: last year)")
+    public ResponseEntity<ApiResponse<List<TrendBreakdownItem>>> getTrendByChapter(
+            @PathVariable String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String financialYear) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                trendService.getByChapter(TrendMetric.fromPath(metric), from, to, financialYear),
+                "Trend by chapter fetched"));
+    }
+
+    @GetMapping("/trends/{metric}/financial-years")
+    @Operation(summary = "Get a trend broken down by financial year", description = "Totals per financial year over [from, to] (default: last five years)")
+    public ResponseEntity<ApiResponse<List<TrendBreakdownItem>>> getTrendByFinancialYear(
+            @PathVariable String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer chapterId) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                trendService.getByFinancialYear(TrendMetric.fromPath(metric), from, to, chapterId),
+                "Trend by financial year fetched"));
+    }
+
+    @PostMapping("/trends/{metric}/rebuild")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Rebuild a trend rollup", description = "Recomputes members-joined or fees-collected from the source tables")
+    public ResponseEntity<ApiResponse<Integer>> rebuildTrend(@PathVariable String metric) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(trendService.rebuild(TrendMetric.fromPath(metric)),
+                "Trend rollup rebuilt"));
+    }
+
+    private static TrendService.Granularity parseGranularity(String value) {
+        try {
+            return TrendService.Granularity.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new SewaException("Granularity must be day, week or month");
+        }
     }
 }
@@ -1,18 +1,20 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.dto.PageDto;
+import com.sewa.common.service.PageCounter;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.entity.AuditLog;
 import com.sewa.repository.AuditLogRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,11 +25,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuditLogController {
 
     private final AuditLogRepository auditLogRepository;
+    private final PageCounter pageCounter;
 
+    /**
+     * Audit rows are batch-inserted over JDBC and publish no EntityChangedEvent,
+     * so a cached audit total is never dropped on writes: it is only as fresh as
+     * the count-cache TTL. The response used to be a serialized Spring Page;
+     * clients that read its pageable or sort objects must use the PageDto fields.
+     */
     @GetMapping
-    @Operation(summary = "Get all audit logs", description = "Fetch a paginated list of system activity logs (Super Admin only)")
-    public ResponseEntity<ApiResponse<Page<AuditLog>>> getAllLogs(Pageable pageable) {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(auditLogRepository.findAll(pageable), "Audit logs fetched"));
+    @Operation(summary = "Get all audit logs", description = "Fetch a paginated list of system activity logs (Super Admin only). count=exact|cached|estimated selects how the total is computed; an inexact total can lag new entries by up to sewa.pagination.count-cache.ttl-seconds. The data is a PageDto like the other listings: it has no pageable or sort objects and adds approximateTotal.")
+    public ResponseEntity<ApiResponse<PageDto<AuditLog>>> getAllLogs(
+            @RequestParam(required = false) String count, Pageable pageable) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                PageDto.from(pageCounter.page("audit-logs", "audit_logs", null, count, pageable,
+                        () -> auditLogRepository.findAllBy(pageable), auditLogRepository::count)),
+                "Audit logs fetched"));
     }
 }
@@ -3,6 +3,7 @@ package com.sewa.controller;
 import com.sewa.common.dto.ApiResponse;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.dto.request.AuthRequest;
+import com.sewa.dto.request.RefreshTokenRequest;
 import com.sewa.dto.request.RegisterRequest;
 import com.sewa.dto.response.AuthResponse;
 import com.sewa.service.AuthService;
@@ -35,6 +36,13 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponseBuilder.success(response, "Login successful"));
     }
 
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token", description = "Exchange a refresh token for a new access token and a rotated refresh token")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponseBuilder.success(response, "Token refreshed"));
+    }
+
     @GetMapping("/me")
     @Operation(summary = "Get current user info", description = "Fetch details of the currently authenticated user")
     public ResponseEntity<ApiResponse<AuthResponse>> getMe(java.security.Principal principal) {
@@ -1,6 +1,7 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.JsonStreamer;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.entity.SewaCalendar;
 import com.sewa.service.CalendarService;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class CalendarController {
 
     private final CalendarService calendarService;
+    private final JsonStreamer jsonStreamer;
 
     @GetMapping("/events")
     @Operation(summary = "Get all events", description = "Fetch all scheduled association events")
@@ -27,6 +30,12 @@ public class CalendarController {
         return ResponseEntity.ok(ApiResponseBuilder.success(events, "Calendar events fetched"));
     }
 
+    @GetMapping("/events/stream")
+    @Operation(summary = "Stream all events", description = "Same envelope as GET /events with flat items (chapter id and name instead of the nested chapter), written incrementally from a database cursor with bounded memory")
+    public ResponseEntity<StreamingResponseBody> streamAllEvents() {
+        return jsonStreamer.stream("Calendar events fetched", calendarService::streamAllEvents);
+    }
+
     @PostMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasAuthority('AGM_CREATE')")
     @Operation(summary = "Create new event")
@@ -1,9 +1,12 @@
 package com.sewa.controller;
 
-import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.EnumDropdownRegistry;
+import com.sewa.common.service.JsonResponseCache;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.dto.response.DropdownResponse;
-import com.sewa.entity.enums.*;
+import com.sewa.entity.Chapter;
+import com.sewa.entity.Permission;
+import com.sewa.entity.Role;
 import com.sewa.repository.ChapterRepository;
 import com.sewa.repository.PermissionRepository;
 import com.sewa.repository.RoleRepository;
@@ -14,8 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,99 +31,111 @@ public class DropdownController {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final ChapterRepository chapterRepository;
+    private final JsonResponseCache responseCache;
+    private final EnumDropdownRegistry enumDropdowns;
 
     @GetMapping("/roles")
-    @Operation(summary = "Get roles")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getRoles() {
-        List<DropdownResponse> list = roleRepository.findAll().stream()
-                .map(role -> new DropdownResponse(role.getRoleName(), role.getRoleName()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponseBuilder.success(list, "Roles fetched"));
+    @Operation(summary = "Get roles", description = "Cached; supports If-None-Match")
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getRoles(WebRequest request) {
+        return responseCache.respond("dropdowns.roles", List.of(Role.class), () -> {
+            List<DropdownResponse> list = roleRepository.findAll().stream()
+                    .map(role -> new DropdownResponse(role.getRoleName(), role.getRoleName()))
+                    .collect(Collectors.toList());
+            return ApiResponseBuilder.success(list, "Roles fetched");
+        }, request);
     }
 
     @GetMapping("/chapters")
-    @Operation(summary = "Get active chapters")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getChapters() {
-        List<DropdownResponse> list = chapterRepository.findByIsDeletedFalse().stream()
-                .map(c -> new DropdownResponse(c.getId().toString(), c.getChapterName()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponseBuilder.success(list, "Chapters fetched"));
+    @Operation(summary = "Get active chapters", description = "Cached; supports If-None-Match")
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getChapters(WebRequest request) {
+        return responseCache.respond("dropdowns.chapters", List.of(Chapter.class), () -> {
+            List<DropdownResponse> list = chapterRepository.findByIsDeletedFalse().stream()
+                    .map(c -> new DropdownResponse(c.getId().toString(), c.getChapterName()))
+                    .collect(Collectors.toList());
+            return ApiResponseBuilder.success(list, "Chapters fetched");
+        }, request);
     }
 
     @GetMapping("/permissions")
-    @Operation(summary = "Get permissions")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getPermissions() {
-        List<DropdownResponse> list = permissionRepository.findAll().stream()
-                .map(p -> new DropdownResponse(p.getPermissionCode(), p.getPermissionCode()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponseBuilder.success(list, "Permissions fetched"));
+    @Operation(summary = "Get permissions", description = "Cached; supports If-None-Match")
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getPermissions(WebRequest request) {
+        return responseCache.respond("dropdowns.permissions", List.of(Permission.class), () -> {
+            List<DropdownResponse> list = permissionRepository.findAll().stream()
+                    .map(p -> new DropdownResponse(p.getPermissionCode(), p.getPermissionCode()))
+                    .collect(Collectors.toList());
+            return ApiResponseBuilder.success(list, "Permissions fetched");
+        }, request);
     }
 
     @GetMapping("/member-status")
     @Operation(summary = "Get membership statuses")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getMemberStatuses() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(MembershipStatus.values()), "Statuses fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getMemberStatuses(WebRequest request) {
+        return enumDropdowns.respond("member-status", request);
     }
 
     @GetMapping("/student-status")
     @Operation(summary = "Get student statuses")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getStudentStatuses() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(MembershipStatus.values()), "Statuses fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getStudentStatuses(WebRequest request) {
+        return enumDropdowns.respond("student-status", request);
     }
 
     @GetMapping("/chapter-types")
     @Operation(summary = "Get chapter types")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getChapterTypes() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(ChapterType.values()), "Chapter types fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getChapterTypes(WebRequest request) {
+        return enumDropdowns.respond("chapter-types", request);
     }
 
     @GetMapping("/content-types")
     @Operation(summary = "Get content types")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getContentTypes() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(ContentType.values()), "Content types fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getContentTypes(WebRequest request) {
+        return enumDropdowns.respond("content-types", request);
     }
 
     @GetMapping("/visibility-types")
     @Operation(summary = "Get visibility types")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getVisibilityTypes() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(Visibility.values()), "Visibility types fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getVisibilityTypes(WebRequest request) {
+        return enumDropdowns.respond("visibility-types", request);
     }
 
     @GetMapping("/calendar-event-types")
     @Operation(summary = "Get calendar event types")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getCalendarEventTypes() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(CalendarEventType.values()), "Event types fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getCalendarEventTypes(WebRequest request) {
+        return enumDropdowns.respond("calendar-event-types", request);
     }
 
     @GetMapping("/designations")
     @Operation(summary = "Get representative designations")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getDesignations() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(Designation.values()), "Designations fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getDesignations(WebRequest request) {
+        return enumDropdowns.respond("designations", request);
     }
 
     @GetMapping("/payment-status")
     @Operation(summary = "Get payment statuses")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getPaymentStatuses() {
-        return ResponseEntity
-                .ok(ApiResponseBuilder.success(getEnumDropdown(PaymentStatus.values()), "Payment statuses fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getPaymentStatuses(WebRequest request) {
+        return enumDropdowns.respond("payment-status", request);
     }
 
     @GetMapping("/genders")
     @Operation(summary = "Get genders")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getGenders() {
-        return ResponseEntity.ok(ApiResponseBuilder.success(getEnumDropdown(Gender.values()), "Genders fetched"));
+    @DropdownListResponses
+    public ResponseEntity<byte[]> getGenders(WebRequest request) {
+        return enumDropdowns.respond("genders", request);
     }
 
     @GetMapping("/financial-years")
     @Operation(summary = "Get financial years")
-    public ResponseEntity<ApiResponse<List<DropdownResponse>>> getFinancialYears() {
+    public ResponseEntity<com.sewa.common.dto.ApiResponse<List<DropdownResponse>>> getFinancialYears() {
         // Logic for last 5 years and next 1 year
         int currentYear = java.time.LocalDate.now().getYear();
         List<DropdownResponse> list = new java.util.ArrayList<>();
@@ -130,10 +145,4 @@ public class DropdownController {
         }
         return ResponseEntity.ok(ApiResponseBuilder.success(list, "Financial years fetched"));
     }
-
-    private List<DropdownResponse> getEnumDropdown(Enum<?>[] values) {
-        return Arrays.stream(values)
-                .map(e -> new DropdownResponse(e.name(), e.name()))
-                .collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,26 @@
+package com.sewa.controller;
+
+import com.sewa.dto.response.DropdownListApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * OpenAPI responses of a dropdown endpoint that writes cached bytes: the
+ * {@link DropdownListApiResponse} envelope, or 304 when the ETag matches.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        schema = @Schema(implementation = DropdownListApiResponse.class)))
+@ApiResponse(responseCode = "304", description = "Not modified (If-None-Match matched)")
+@interface DropdownListResponses {
+}
@@ -1,7 +1,10 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.EntityStreams;
+import com.sewa.common.service.JsonStreamer;
 import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.response.RepresentativeResponse;
 import com.sewa.entity.ElectedRepresentative;
 import com.sewa.repository.ElectedRepresentativeRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,6 +24,8 @@ import java.util.List;
 public class ElectedRepresentativeController {
 
     private final ElectedRepresentativeRepository representativeRepository;
+    private final EntityStreams entityStreams;
+    private final JsonStreamer jsonStreamer;
 
     @GetMapping("/active")
     @Operation(summary = "Get active representatives", description = "Fetch a list of currently active elected representatives")
@@ -28,6 +34,13 @@ public class ElectedRepresentativeController {
         return ResponseEntity.ok(ApiResponseBuilder.success(reps, "Active representatives fetched"));
     }
 
+    @GetMapping("/active/stream")
+    @Operation(summary = "Stream active representatives", description = "Same envelope as GET /active with flat items (member id, name and code instead of the nested member), written incrementally from a database cursor with bounded memory")
+    public ResponseEntity<StreamingResponseBody> streamActiveReps() {
+        return jsonStreamer.<RepresentativeResponse>stream("Active representatives fetched",
+                sink -> entityStreams.forEach(representativeRepository.streamResponsesByActiveTrue(), sink));
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('CONTENT_CREATE')")
     @Operation(summary = "Add representative", description = "Add a new elected representative record")
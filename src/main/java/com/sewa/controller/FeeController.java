@@ -1,6 +1,7 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.dto.CursorPageDto;
 import com.sewa.common.dto.PageDto;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.dto.request.FeeRequest;
@@ -33,15 +34,31 @@ public class FeeController {
             @RequestParam(required = false) String query,
             @RequestParam(required = false) com.sewa.entity.enums.PaymentStatus status,
             @RequestParam(required = false) String year,
+            @RequestParam(required = false) String count,
             Pageable pageable) {
         Page<FeeResponse> page = (query != null && !query.isBlank()) || status != null
                 || (year != null && !year.isBlank())
-                        ? feeService.searchFees(query, status, year, pageable)
-                        : feeService.getAllFees(pageable);
+                        ? feeService.searchFees(query, status, year, pageable, count)
+                        : feeService.getAllFees(pageable, count);
         return ResponseEntity.ok(ApiResponseBuilder.success(
                 PageDto.from(page), "Fees fetched successfully"));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('FEE_VIEW')")
+    @Operation(summary = "Get fee records by cursor", description = "Keyset-paginated fee records (by id) without a total count; pass nextCursor back as cursor")
+    public ResponseEntity<ApiResponse<CursorPageDto<FeeResponse>>> getFeesByCursor(
+            @RequestParam(required = false) com.sewa.entity.enums.PaymentStatus status,
+            @RequestParam(required = false) String year,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean estimate) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                feeService.scrollFees(status, year, cursor, Math.min(Math.max(size, 1), 100), direction, estimate),
+                "Fees fetched successfully"));
+    }
+
     @GetMapping("/member/{memberId}")
     @PreAuthorize("hasAuthority('FEE_VIEW')")
     @Operation(summary = "Get fees by member ID (Internal)", description = "Fetch all fee records for a member using internal ID")
@@ -1,18 +1,28 @@
 package com.sewa.controller;
 
-import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.JsonResponseCache;
 import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.response.MasterDataApiResponse;
 import com.sewa.dto.response.MasterDataResponse;
 import com.sewa.dto.response.MasterItem;
+import com.sewa.entity.EducationalLevelMaster;
+import com.sewa.entity.GenderMaster;
+import com.sewa.entity.WorkingSectorMaster;
 import com.sewa.service.MasterDataService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RestController
@@ -22,10 +32,21 @@ import java.util.stream.Collectors;
 public class MasterDataController {
 
         private final MasterDataService masterDataService;
+        private final JsonResponseCache responseCache;
 
         @GetMapping
-        @Operation(summary = "Get all master data", description = "Fetch all educational levels, working sectors, and genders")
-        public ResponseEntity<ApiResponse<MasterDataResponse>> getAllMasterData() {
+        @Operation(summary = "Get all master data", description = "Fetch all educational levels, working sectors, and genders (cached; supports If-None-Match)")
+        @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = MasterDataApiResponse.class)))
+        @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match matched)")
+        public ResponseEntity<byte[]> getAllMasterData(WebRequest request) {
+                return responseCache.respond("master", List.of(EducationalLevelMaster.class,
+                                WorkingSectorMaster.class, GenderMaster.class),
+                                () -> ApiResponseBuilder.success(loadMasterData(), "Master data fetched successfully"),
+                                request);
+        }
+
+        private MasterDataResponse loadMasterData() {
                 MasterDataResponse response = MasterDataResponse.builder()
                                 .educationalLevels(masterDataService.getAllEducationalLevels().stream()
                                                 .map(item -> MasterItem.builder()
@@ -53,6 +74,6 @@ public class MasterDataController {
                                                                 .build())
                                                 .collect(Collectors.toList()))
                                 .build();
-                return ResponseEntity.ok(ApiResponseBuilder.success(response, "Master data fetched successfully"));
+                return response;
         }
 }
@@ -1,12 +1,16 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.dto.CursorPageDto;
 import com.sewa.common.dto.PageDto;
 import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.request.BulkActionRequest;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.MemberResponse;
 import com.sewa.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -75,6 +79,7 @@ public class MemberController {
             @RequestParam(required = false) String workingSector,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String query,
+            @RequestParam(required = false) String count,
             Pageable pageable) {
         // Sanitize the sort: if any sort field is not a valid Member field, fall back
         // to id asc
@@ -85,7 +90,25 @@ public class MemberController {
         Pageable safePage = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sanitizedSort);
         return ResponseEntity.ok(ApiResponseBuilder.success(
                 PageDto.from(memberService.searchMembers(chapterId, educationalLevel, workingSector, status, query,
-                        safePage)),
+                        safePage, count)),
+                "Members list fetched"));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('MEMBER_LIST')")
+    @Operation(summary = "Get members by cursor", description = "Keyset-paginated member list without a total count; pass nextCursor back as cursor. Sort by id or fullName.")
+    public ResponseEntity<ApiResponse<CursorPageDto<MemberResponse>>> getMembersByCursor(
+            @RequestParam(required = false) Integer chapterId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean estimate) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                memberService.scrollMembers(chapterId, status, query, cursor, Math.min(Math.max(size, 1), 100),
+                        sort, direction, estimate),
                 "Members list fetched"));
     }
 
@@ -114,6 +137,22 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponseBuilder.success(member, "Member rejected"));
     }
 
+    @PostMapping("/bulk-approve")
+    @PreAuthorize("hasAuthority('MEMBER_APPROVE')")
+    @Operation(summary = "Approve members in bulk", description = "Approve up to sewa.bulk.max-items members in one transaction; codes are allocated for the whole batch and the outcome is reported per id")
+    public ResponseEntity<ApiResponse<BulkActionResponse>> approveMembers(@Valid @RequestBody BulkActionRequest request) {
+        BulkActionResponse result = memberService.approveMembers(request.getIds());
+        return ResponseEntity.ok(ApiResponseBuilder.success(result, result.getSucceeded() + " members approved"));
+    }
+
+    @PostMapping("/bulk-reject")
+    @PreAuthorize("hasAuthority('MEMBER_REJECT')")
+    @Operation(summary = "Reject members in bulk")
+    public ResponseEntity<ApiResponse<BulkActionResponse>> rejectMembers(@Valid @RequestBody BulkActionRequest request) {
+        BulkActionResponse result = memberService.rejectMembers(request.getIds());
+        return ResponseEntity.ok(ApiResponseBuilder.success(result, result.getSucceeded() + " members rejected"));
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAuthority('MEMBER_UPDATE')")
     @Operation(summary = "Update member status")
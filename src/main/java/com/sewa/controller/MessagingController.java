@@ -1,6 +1,7 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.JsonStreamer;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.dto.request.MessageRequest;
 import com.sewa.dto.response.MessageResponse;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.List;
 public class MessagingController {
 
     private final InternalMessageService messageService;
+    private final JsonStreamer jsonStreamer;
 
     @GetMapping
     @PreAuthorize("hasAuthority('MESSAGE_VIEW')")
@@ -32,6 +35,13 @@ public class MessagingController {
         return ResponseEntity.ok(ApiResponseBuilder.success(messages, "Messages fetched"));
     }
 
+    @GetMapping("/stream")
+    @PreAuthorize("hasAuthority('MESSAGE_VIEW')")
+    @Operation(summary = "Stream all messages", description = "Same envelope as GET /messages, written incrementally from a database cursor with bounded memory")
+    public ResponseEntity<StreamingResponseBody> streamAllMessages() {
+        return jsonStreamer.stream("Messages fetched", messageService::streamAllMessages);
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('MESSAGE_SEND')")
     @Operation(summary = "Send message", description = "Send a new internal message")
@@ -1,6 +1,7 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.service.JsonStreamer;
 import com.sewa.common.util.ApiResponseBuilder;
 import com.sewa.dto.request.NoticeRequest;
 import com.sewa.dto.response.NoticeResponse;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.List;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final JsonStreamer jsonStreamer;
 
     @GetMapping
     @Operation(summary = "Get all notices", description = "Fetch a list of all active notices and announcements")
@@ -31,6 +34,12 @@ public class NoticeController {
         return ResponseEntity.ok(ApiResponseBuilder.success(notices, "Notices fetched"));
     }
 
+    @GetMapping("/stream")
+    @Operation(summary = "Stream all notices", description = "Same envelope as GET /notices, written incrementally from a database cursor with bounded memory")
+    public ResponseEntity<StreamingResponseBody> streamAllNotices() {
+        return jsonStreamer.stream("Notices fetched", noticeService::streamAllNotices);
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('CONTENT_CREATE')")
     @Operation(summary = "Create notice", description = "Post a new announcement (Admin only)")
@@ -1,12 +1,16 @@
 package com.sewa.controller;
 
 import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.dto.CursorPageDto;
 import com.sewa.common.dto.PageDto;
 import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.request.BulkActionRequest;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.StudentResponse;
 import com.sewa.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -40,9 +44,26 @@ public class StudentController {
     @GetMapping
     @PreAuthorize("hasAuthority('STUDENT_LIST')")
     @Operation(summary = "Get all students", description = "Fetch a paginated list of all students")
-    public ResponseEntity<ApiResponse<PageDto<StudentResponse>>> getAllStudents(Pageable pageable) {
+    public ResponseEntity<ApiResponse<PageDto<StudentResponse>>> getAllStudents(
+            @RequestParam(required = false) String count, Pageable pageable) {
         return ResponseEntity.ok(ApiResponseBuilder.success(
-                PageDto.from(studentService.getAllStudents(pageable)), "Students list fetched"));
+                PageDto.from(studentService.getAllStudents(pageable, count)), "Students list fetched"));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('STUDENT_LIST')")
+    @Operation(summary = "Get students by cursor", description = "Keyset-paginated student list without a total count; pass nextCursor back as cursor. Sort by id or fullName.")
+    public ResponseEntity<ApiResponse<CursorPageDto<StudentResponse>>> getStudentsByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean estimate) {
+        return ResponseEntity.ok(ApiResponseBuilder.success(
+                studentService.scrollStudents(status, cursor, Math.min(Math.max(size, 1), 100), sort, direction,
+                        estimate),
+                "Students list fetched"));
     }
 
     @GetMapping("/pending")
@@ -69,6 +90,22 @@ public class StudentController {
         return ResponseEntity.ok(ApiResponseBuilder.success(student, "Student rejected"));
     }
 
+    @PostMapping("/bulk-approve")
+    @PreAuthorize("hasAuthority('STUDENT_APPROVE')")
+    @Operation(summary = "Approve students in bulk", description = "Approve up to sewa.bulk.max-items students in one transaction; codes are allocated for the whole batch and the outcome is reported per id")
+    public ResponseEntity<ApiResponse<BulkActionResponse>> approveStudents(@Valid @RequestBody BulkActionRequest request) {
+        BulkActionResponse result = studentService.approveStudents(request.getIds());
+        return ResponseEntity.ok(ApiResponseBuilder.success(result, result.getSucceeded() + " students approved"));
+    }
+
+    @PostMapping("/bulk-reject")
+    @PreAuthorize("hasAuthority('STUDENT_REJECT')")
+    @Operation(summary = "Reject students in bulk")
+    public ResponseEntity<ApiResponse<BulkActionResponse>> rejectStudents(@Valid @RequestBody BulkActionRequest request) {
+        BulkActionResponse result = studentService.rejectStudents(request.getIds());
+        return ResponseEntity.ok(ApiResponseBuilder.success(result, result.getSucceeded() + " students rejected"));
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAuthority('STUDENT_UPDATE')")
     @Operation(summary = "Update student status")
@@ -0,0 +1,35 @@
+package com.sewa.controller;
+
+import com.sewa.common.dto.ApiResponse;
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.common.util.ApiResponseBuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/api/v1/admin/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@Tag(name = "System Metrics", description = "APIs for inspecting in-process caches and queues")
+public class SystemMetricsController {
+
+    private final List<MetricsSource> metricsSources;
+
+    @GetMapping
+    @Operation(summary = "Get runtime metrics", description = "Fetch cache and queue counters (Super Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new TreeMap<>();
+        metricsSources.forEach(source -> metrics.put(source.getMetricsName(), source.getMetrics()));
+        return ResponseEntity.ok(ApiResponseBuilder.success(metrics, "Metrics fetched"));
+    }
+}
@@ -0,0 +1,13 @@
+package com.sewa.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkActionRequest {
+    @NotEmpty(message = "At least one id is required")
+    private List<@NotNull Integer> ids;
+}
@@ -13,6 +13,7 @@ import java.util.Set;
 @Builder
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private String username;
     private Set<String> roles;
 }
@@ -0,0 +1,30 @@
+package com.sewa.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkActionResponse {
+    private int requested;
+    private int succeeded;
+    private int skipped;
+    private int failed;
+    /** One entry per distinct id, in request order */
+    private List<Item> results;
+
+    public enum Outcome {
+        APPROVED, REJECTED, SKIPPED, NOT_FOUND
+    }
+
+    @Data
+    @Builder
+    public static class Item {
+        private Integer id;
+        private Outcome outcome;
+        private String membershipCode;
+        private String message;
+    }
+}
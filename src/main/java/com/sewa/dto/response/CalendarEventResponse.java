@@ -0,0 +1,28 @@
+package com.sewa.dto.response;
+
+import com.sewa.entity.enums.CalendarEventType;
+import com.sewa.entity.enums.Visibility;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** Flat calendar event row, as written by the streaming export */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEventResponse {
+    private Integer id;
+    private LocalDate eventDate;
+    private String title;
+    private String description;
+    private CalendarEventType eventType;
+    private Integer chapterId;
+    private String chapterName;
+    private Visibility visibility;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.sewa.dto.response;
+
+import com.sewa.common.dto.ApiResponse;
+
+import java.util.List;
+
+/**
+ * OpenAPI schema of a dropdown list envelope, for endpoints that write cached,
+ * pre-serialized bytes instead of returning the object.
+ */
+public class DropdownListApiResponse extends ApiResponse<List<DropdownResponse>> {
+}
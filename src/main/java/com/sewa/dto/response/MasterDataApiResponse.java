@@ -0,0 +1,10 @@
+package com.sewa.dto.response;
+
+import com.sewa.common.dto.ApiResponse;
+
+/**
+ * OpenAPI schema of the master data envelope. The endpoint writes cached,
+ * pre-serialized bytes, so the documented type has to be named explicitly.
+ */
+public class MasterDataApiResponse extends ApiResponse<MasterDataResponse> {
+}
@@ -2,13 +2,17 @@ package com.sewa.dto.response;
 
 import com.sewa.entity.enums.Priority;
 import com.sewa.entity.enums.Visibility;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MessageResponse {
     private Integer id;
     private String senderName;
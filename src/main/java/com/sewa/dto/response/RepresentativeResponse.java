@@ -0,0 +1,24 @@
+package com.sewa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** Flat elected representative row, as written by the streaming export */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepresentativeResponse {
+    private Integer id;
+    private Integer memberId;
+    private String memberName;
+    private String membershipCode;
+    private String roleName;
+    private LocalDate termStart;
+    private LocalDate termEnd;
+    private Boolean active;
+}
@@ -1,13 +1,17 @@
 package com.sewa.dto.response;
 
 import com.sewa.entity.enums.MembershipStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class StudentResponse {
     private Integer id;
     private String username;
@@ -0,0 +1,16 @@
+package com.sewa.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class TrendBreakdownItem {
+    /** Chapter id or financial year, depending on the breakdown */
+    private String key;
+    private String label;
+    private long count;
+    private BigDecimal amount;
+}
@@ -0,0 +1,17 @@
+package com.sewa.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class TrendPoint {
+    /** Inclusive bounds of the period the point covers */
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long count;
+    private BigDecimal amount;
+}
@@ -0,0 +1,23 @@
+package com.sewa.dto.response;
+
+import com.sewa.entity.enums.TrendMetric;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class TrendSeriesResponse {
+    private TrendMetric metric;
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    /** Periods merged into each point when the series was downsampled; 1 otherwise */
+    private int periodsPerPoint;
+    private long totalCount;
+    private BigDecimal totalAmount;
+    private List<TrendPoint> points;
+}
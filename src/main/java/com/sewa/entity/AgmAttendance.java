@@ -14,12 +14,12 @@ public class AgmAttendance {
     @EmbeddedId
     private AgmAttendanceId id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("agmId")
     @JoinColumn(name = "agm_id")
     private Content agm;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("memberId")
     @JoinColumn(name = "member_id")
     private Member member;
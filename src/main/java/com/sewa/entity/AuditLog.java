@@ -18,7 +18,7 @@ public class AuditLog {
     @Column(name = "log_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -1,5 +1,7 @@
 package com.sewa.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.sewa.common.event.EntityChangePublisher;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
@@ -13,9 +15,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @MappedSuperclass
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({ AuditingEntityListener.class, EntityChangePublisher.class })
 public abstract class BaseEntity {
 
     @CreatedDate
@@ -19,7 +19,7 @@ public class ChapterActivity extends BaseEntity {
     @Column(name = "activity_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chapter_id")
     private Chapter chapter;
 
@@ -11,12 +11,12 @@ public class ChapterMember {
     @EmbeddedId
     private ChapterMemberId id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("chapterId")
     @JoinColumn(name = "chapter_id")
     private Chapter chapter;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("memberId")
     @JoinColumn(name = "member_id")
     private Member member;
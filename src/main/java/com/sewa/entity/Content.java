@@ -39,7 +39,7 @@ public class Content extends BaseEntity {
     @Column(name = "event_date")
     private LocalDate eventDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
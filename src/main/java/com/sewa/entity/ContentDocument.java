@@ -15,7 +15,7 @@ public class ContentDocument {
     @Column(name = "document_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "content_id")
     private Content content;
 
@@ -0,0 +1,49 @@
+package com.sewa.entity;
+
+import com.sewa.entity.enums.TrendMetric;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One day of a trend series per chapter (0 = none) and financial year
+ * ('' when not applicable). Rows are adjusted after the write they describe
+ * commits, in a transaction of their own, so charts read a few hundred rows a
+ * year instead of scanning members or fees.
+ */
+@Entity
+@Table(name = "daily_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_daily_rollups_key", columnNames = {
+        "metric", "stat_date", "chapter_id", "financial_year" }), indexes = @Index(name = "idx_daily_rollups_metric_date", columnList = "metric, stat_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private TrendMetric metric;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "chapter_id", nullable = false)
+    private Integer chapterId;
+
+    @Column(name = "financial_year", nullable = false, length = 20)
+    private String financialYear;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal amount;
+}
@@ -19,7 +19,7 @@ public class ElectedRepresentative extends BaseEntity {
     @Column(name = "rep_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
@@ -21,7 +21,7 @@ public class InternalMessage extends BaseEntity {
     @Column(name = "message_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id")
     private User sender;
 
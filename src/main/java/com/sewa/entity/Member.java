@@ -8,6 +8,8 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "members")
+@NamedEntityGraph(name = Member.DETAIL, attributeNodes = { @NamedAttributeNode("user"), @NamedAttributeNode("chapter"),
+        @NamedAttributeNode("educationalLevel"), @NamedAttributeNode("workingSector"), @NamedAttributeNode("gender") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,12 +19,15 @@ import java.time.LocalDate;
 @org.hibernate.annotations.DynamicUpdate
 public class Member extends BaseEntity {
 
+    /** Fetch plan for a single member: everything MemberResponse and the stats events read */
+    public static final String DETAIL = "Member.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
     private Integer id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true)
     private User user;
 
@@ -45,19 +50,19 @@ public class Member extends BaseEntity {
 
     private String organization;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chapter_id")
     private Chapter chapter;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "educational_level_id")
     private EducationalLevelMaster educationalLevel;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "working_sector_id")
     private WorkingSectorMaster workingSector;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gender_id")
     private GenderMaster gender;
     private String college;
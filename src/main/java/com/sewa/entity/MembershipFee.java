@@ -23,7 +23,7 @@ public class MembershipFee extends BaseEntity {
     @Column(name = "fee_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
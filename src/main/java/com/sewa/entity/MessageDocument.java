@@ -17,7 +17,7 @@ public class MessageDocument extends BaseEntity {
     @Column(name = "document_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "message_id")
     private InternalMessage message;
 
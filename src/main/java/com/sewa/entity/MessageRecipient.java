@@ -13,12 +13,12 @@ public class MessageRecipient {
     @EmbeddedId
     private MessageRecipientId id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("messageId")
     @JoinColumn(name = "message_id")
     private InternalMessage message;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("recipientUserId")
     @JoinColumn(name = "recipient_user_id")
     private User recipient;
@@ -26,7 +26,7 @@ public class Notice extends BaseEntity {
     @Column(columnDefinition = "TEXT", name = "message")
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
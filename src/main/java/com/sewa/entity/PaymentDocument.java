@@ -17,7 +17,7 @@ public class PaymentDocument extends BaseEntity {
     @Column(name = "document_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fee_id")
     private MembershipFee fee;
 
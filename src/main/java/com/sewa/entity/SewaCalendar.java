@@ -30,7 +30,7 @@ public class SewaCalendar {
     @Column(name = "event_type")
     private CalendarEventType eventType; // e.g., MEETING, FESTIVAL
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chapter_id")
     private Chapter chapter;
 
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "students")
+@NamedEntityGraph(name = Student.DETAIL, attributeNodes = { @NamedAttributeNode("user"), @NamedAttributeNode("chapter"),
+        @NamedAttributeNode("educationalLevel") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,12 +19,15 @@ import java.time.LocalDateTime;
 @org.hibernate.annotations.DynamicUpdate
 public class Student extends BaseEntity {
 
+    /** Fetch plan for a single student: everything StudentResponse and the stats events read */
+    public static final String DETAIL = "Student.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "student_id")
     private Integer id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true)
     private User user;
 
@@ -32,14 +37,14 @@ public class Student extends BaseEntity {
     @Column(name = "membership_code", unique = true)
     private String membershipCode;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chapter_id")
     private Chapter chapter;
 
     private String institute;
     private String course;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "educational_level_id")
     private EducationalLevelMaster educationalLevel;
 
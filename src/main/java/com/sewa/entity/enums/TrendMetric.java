@@ -0,0 +1,16 @@
+package com.sewa.entity.enums;
+
+import com.sewa.exception.SewaException;
+
+/** Series kept in {@code daily_rollups}; the path form is e.g. {@code fees-collected}. */
+public enum TrendMetric {
+    MEMBERS_JOINED, MEMBERS_APPROVED, FEES_COLLECTED;
+
+    public static TrendMetric fromPath(String value) {
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new SewaException("Unknown trend metric: " + value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.sewa.exception;
+
+/**
+ * Thrown when a request could not be admitted in time (e.g. all database
+ * permits are taken). Mapped to 503 so clients can retry.
+ */
+public class ServiceUnavailableException extends SewaException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sewa.exception;
+
+/**
+ * Thrown when a bounded resource (e.g. the password hashing pool) is
+ * saturated. Mapped to 429 so clients back off instead of queueing.
+ */
+public class TooManyRequestsException extends SewaException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sewa.exception;
+
+/**
+ * Thrown when presented credentials other than username/password (e.g. a
+ * refresh token) are invalid, expired or revoked. Mapped to 401.
+ */
+public class UnauthorizedException extends SewaException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
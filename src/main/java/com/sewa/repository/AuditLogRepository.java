@@ -1,9 +1,16 @@
 package com.sewa.repository;
 
 import com.sewa.entity.AuditLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Integer> {
+
+    /** Page of audit logs without the count query (see PageCounter) */
+    @EntityGraph(attributePaths = "user")
+    Slice<AuditLog> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,7 @@ package com.sewa.repository;
 
 import com.sewa.entity.ChapterMember;
 import com.sewa.entity.ChapterMemberId;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,5 +12,6 @@ import java.util.Optional;
 public interface ChapterMemberRepository extends JpaRepository<ChapterMember, ChapterMemberId> {
     Optional<ChapterMember> findByChapterIdAndMemberId(Integer chapterId, Integer memberId);
 
+    @EntityGraph(attributePaths = "member")
     java.util.List<ChapterMember> findAllByChapterId(Integer chapterId);
 }
@@ -4,6 +4,7 @@ import com.sewa.entity.Chapter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +17,7 @@ public interface ChapterRepository extends JpaRepository<Chapter, Integer> {
     Page<Chapter> findByIsDeletedFalse(Pageable pageable);
 
     Optional<Chapter> findByIdAndIsDeletedFalse(Integer id);
+
+    @Query("SELECT COUNT(c) FROM Chapter c WHERE (c.isDeleted = false OR c.isDeleted IS NULL)")
+    long countActiveChapters();
 }
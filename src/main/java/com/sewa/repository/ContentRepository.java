@@ -1,6 +1,9 @@
 package com.sewa.repository;
 
 import com.sewa.entity.Content;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +11,10 @@ import java.util.List;
 
 @Repository
 public interface ContentRepository extends JpaRepository<Content, Integer> {
+    @EntityGraph(attributePaths = "author")
     List<Content> findByPublishedTrueAndVisibility(String visibility);
+
+    @Override
+    @EntityGraph(attributePaths = "author")
+    Page<Content> findAll(Pageable pageable);
 }
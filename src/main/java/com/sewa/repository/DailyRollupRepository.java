@@ -0,0 +1,43 @@
+package com.sewa.repository;
+
+import com.sewa.entity.DailyRollup;
+import com.sewa.entity.enums.TrendMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    boolean existsByMetric(TrendMetric metric);
+
+    /** Rows: day, count, amount; ordered by day */
+    @Query("SELECT r.day, SUM(r.eventCount), SUM(r.amount) FROM DailyRollup r WHERE r.metric = :metric " +
+            "AND r.day BETWEEN :from AND :to " +
+            "AND (:chapterId IS NULL OR r.chapterId = :chapterId) " +
+            "AND (:financialYear IS NULL OR r.financialYear = :financialYear) " +
+            "GROUP BY r.day ORDER BY r.day")
+    List<Object[]> sumByDay(@Param("metric") TrendMetric metric, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("chapterId") Integer chapterId,
+            @Param("financialYear") String financialYear);
+
+    /** Rows: chapter id (0 = none), count, amount */
+    @Query("SELECT r.chapterId, SUM(r.eventCount), SUM(r.amount) FROM DailyRollup r WHERE r.metric = :metric " +
+            "AND r.day BETWEEN :from AND :to " +
+            "AND (:financialYear IS NULL OR r.financialYear = :financialYear) " +
+            "GROUP BY r.chapterId")
+    List<Object[]> sumByChapter(@Param("metric") TrendMetric metric, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("financialYear") String financialYear);
+
+    /** Rows: financial year, count, amount; ordered by year */
+    @Query("SELECT r.financialYear, SUM(r.eventCount), SUM(r.amount) FROM DailyRollup r WHERE r.metric = :metric " +
+            "AND r.day BETWEEN :from AND :to " +
+            "AND (:chapterId IS NULL OR r.chapterId = :chapterId) " +
+            "GROUP BY r.financialYear ORDER BY r.financialYear")
+    List<Object[]> sumByFinancialYear(@Param("metric") TrendMetric metric, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("chapterId") Integer chapterId);
+}
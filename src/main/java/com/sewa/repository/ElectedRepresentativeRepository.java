@@ -1,12 +1,32 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.RepresentativeResponse;
 import com.sewa.entity.ElectedRepresentative;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ElectedRepresentativeRepository extends JpaRepository<ElectedRepresentative, Integer> {
+    /** Serialized as entities; fetches everything the JSON reaches so it also works without Open Session in View */
+    @EntityGraph(attributePaths = { "member", "member.user", "member.user.roles", "member.user.roles.permissions",
+            "member.chapter", "member.educationalLevel", "member.workingSector", "member.gender" })
     List<ElectedRepresentative> findByActiveTrue();
+
+    /**
+     * Forward-only scroll for streaming exports, projected straight into DTOs so
+     * no entity or member proxy is managed per row; consume inside a transaction
+     */
+    @Query("SELECT new com.sewa.dto.response.RepresentativeResponse(r.id, m.id, m.fullName, m.membershipCode, " +
+            "r.roleName, r.termStart, r.termEnd, r.active) " +
+            "FROM ElectedRepresentative r LEFT JOIN r.member m WHERE r.active = true ORDER BY r.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500") })
+    Stream<RepresentativeResponse> streamResponsesByActiveTrue();
 }
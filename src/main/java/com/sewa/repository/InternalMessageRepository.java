@@ -1,9 +1,32 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.MessageResponse;
 import com.sewa.entity.InternalMessage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface InternalMessageRepository extends JpaRepository<InternalMessage, Integer> {
+
+    @Override
+    @EntityGraph(attributePaths = "sender")
+    List<InternalMessage> findAll();
+
+    /**
+     * Forward-only scroll for streaming exports, projected straight into DTOs so
+     * no entity or sender is managed per row; consume inside a transaction
+     */
+    @Query("SELECT new com.sewa.dto.response.MessageResponse(m.id, COALESCE(s.username, 'System'), m.subject, " +
+            "m.content, m.priority, m.visibility, m.expiresAt, m.createdAt, m.updatedAt) " +
+            "FROM InternalMessage m LEFT JOIN m.sender s ORDER BY m.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500") })
+    Stream<MessageResponse> streamResponses();
 }
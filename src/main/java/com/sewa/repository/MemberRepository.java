@@ -1,45 +1,97 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.MemberResponse;
 import com.sewa.entity.Member;
+import com.sewa.entity.enums.MembershipStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Integer> {
+public interface MemberRepository extends JpaRepository<Member, Integer>, JpaSpecificationExecutor<Member> {
+        @Override
+        @EntityGraph(Member.DETAIL)
+        Optional<Member> findById(Integer id);
+
+        @EntityGraph(Member.DETAIL)
         Optional<Member> findByMembershipCode(String membershipCode);
 
+        @EntityGraph(Member.DETAIL)
         Optional<Member> findByUserUsername(String username);
 
+        /**
+         * All member groupings in one scan (PostgreSQL GROUPING SETS). Columns:
+         * grouping flags for chapter, educational level and working sector (0 =
+         * grouped by it), the three names and the count. The row with all flags
+         * set is the total.
+         */
+        @Query(value = "SELECT GROUPING(c.chapter_name), GROUPING(el.name), GROUPING(ws.name), " +
+                        "c.chapter_name, el.name, ws.name, COUNT(*) FROM members m " +
+                        "LEFT JOIN chapters c ON c.chapter_id = m.chapter_id " +
+                        "LEFT JOIN educational_levels el ON el.id = m.educational_level_id " +
+                        "LEFT JOIN working_sectors ws ON ws.id = m.working_sector_id " +
+                        "WHERE (m.is_deleted = FALSE OR m.is_deleted IS NULL) " +
+                        "GROUP BY GROUPING SETS ((c.chapter_name), (el.name), (ws.name), ())", nativeQuery = true)
+        List<Object[]> aggregateMemberGroupings();
+
         @Query("SELECT m.chapter.chapterName, COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL) AND m.chapter IS NOT NULL GROUP BY m.chapter.chapterName")
         List<Object[]> countMembersByChapter();
 
-        @Query("SELECT m.educationalLevel, COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL) GROUP BY m.educationalLevel")
+        @Query("SELECT m.educationalLevel.name, COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL) GROUP BY m.educationalLevel.name")
         List<Object[]> countMembersByEducationalLevel();
 
-        @Query("SELECT m.workingSector, COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL) GROUP BY m.workingSector")
+        @Query("SELECT m.workingSector.name, COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL) GROUP BY m.workingSector.name")
         List<Object[]> countMembersByWorkingSector();
 
-        @Query("SELECT cm.member FROM ChapterMember cm WHERE cm.chapter.id = :chapterId")
-        org.springframework.data.domain.Page<Member> findByChapterId(Integer chapterId,
-                        org.springframework.data.domain.Pageable pageable);
+        /**
+         * Select list building {@link MemberResponse} straight from one joined row,
+         * so listings never load Member entities and their to-one associations.
+         * Use with {@link #RESPONSE_JOINS} on alias {@code m}.
+         */
+        String RESPONSE_SELECT = "SELECT new com.sewa.dto.response.MemberResponse(m.id, u.username, u.email, " +
+                        "m.membershipCode, m.fullName, m.phone, m.address, m.designation, m.membershipStatus, " +
+                        "m.joinedDate, m.organization, g.name, m.college, m.university, m.graduationYear, " +
+                        "c.id, c.chapterName, el.name, ws.name, m.createdAt, m.updatedAt) ";
 
-        @Query("SELECT cm.member FROM ChapterMember cm WHERE cm.chapter.id = :chapterId AND cm.member.membershipStatus = :status")
-        org.springframework.data.domain.Page<Member> findByChapterIdAndStatus(Integer chapterId,
-                        com.sewa.entity.enums.MembershipStatus status,
-                        org.springframework.data.domain.Pageable pageable);
+        String RESPONSE_JOINS = "LEFT JOIN m.user u LEFT JOIN m.chapter c LEFT JOIN m.educationalLevel el " +
+                        "LEFT JOIN m.workingSector ws LEFT JOIN m.gender g ";
+
+        @Query(value = RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS, countQuery = "SELECT COUNT(m) FROM Member m")
+        Page<MemberResponse> findAllResponses(Pageable pageable);
+
+        @Query(value = RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS + "WHERE m.membershipStatus = :status",
+                        countQuery = "SELECT COUNT(m) FROM Member m WHERE m.membershipStatus = :status")
+        Page<MemberResponse> findResponsesByMembershipStatus(@Param("status") MembershipStatus status,
+                        Pageable pageable);
 
-        org.springframework.data.domain.Page<Member> findByMembershipStatus(
-                        com.sewa.entity.enums.MembershipStatus status,
-                        org.springframework.data.domain.Pageable pageable);
+        String IN_CHAPTER = "m.id IN (SELECT cm.member.id FROM ChapterMember cm WHERE cm.chapter.id = :chapterId)";
 
-        @Query(value = "SELECT m.* FROM members m " +
+        @Query(value = RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS + "WHERE " + IN_CHAPTER,
+                        countQuery = "SELECT COUNT(m) FROM Member m WHERE " + IN_CHAPTER)
+        Page<MemberResponse> findResponsesByChapterId(@Param("chapterId") Integer chapterId, Pageable pageable);
+
+        @Query(value = RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS + "WHERE " + IN_CHAPTER
+                        + " AND m.membershipStatus = :status",
+                        countQuery = "SELECT COUNT(m) FROM Member m WHERE " + IN_CHAPTER + " AND m.membershipStatus = :status")
+        Page<MemberResponse> findResponsesByChapterIdAndStatus(@Param("chapterId") Integer chapterId,
+                        @Param("status") MembershipStatus status, Pageable pageable);
+
+        /** Responses for the given ids, in no particular order */
+        @Query(RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS + "WHERE m.id IN :ids")
+        List<MemberResponse> findResponsesByIdIn(@Param("ids") Collection<Integer> ids);
+
+        /** Shared FROM/WHERE of the native member search (leading-wildcard ILIKE, trigram-indexed on PostgreSQL) */
+        String SEARCH_FROM = "FROM members m " +
                         "LEFT JOIN educational_levels el ON el.id = m.educational_level_id " +
                         "LEFT JOIN working_sectors ws ON ws.id = m.working_sector_id " +
                         "WHERE (:chapterId IS NULL OR m.chapter_id = :chapterId) " +
@@ -50,29 +102,54 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
                         "  OR m.full_name ILIKE '%' || CAST(:query AS TEXT) || '%' " +
                         "  OR m.membership_code ILIKE '%' || CAST(:query AS TEXT) || '%' " +
                         "  OR m.phone ILIKE '%' || CAST(:query AS TEXT) || '%') " +
-                        "AND (m.is_deleted = FALSE OR m.is_deleted IS NULL)", countQuery = "SELECT COUNT(*) FROM members m "
-                                        +
-                                        "LEFT JOIN educational_levels el ON el.id = m.educational_level_id " +
-                                        "LEFT JOIN working_sectors ws ON ws.id = m.working_sector_id " +
-                                        "WHERE (:chapterId IS NULL OR m.chapter_id = :chapterId) " +
-                                        "AND (:eduLevel IS NULL OR el.name = :eduLevel) " +
-                                        "AND (:sector IS NULL OR ws.name = :sector) " +
-                                        "AND (:status IS NULL OR m.membership_status = :status) " +
-                                        "AND (:query IS NULL " +
-                                        "  OR m.full_name ILIKE '%' || CAST(:query AS TEXT) || '%' " +
-                                        "  OR m.membership_code ILIKE '%' || CAST(:query AS TEXT) || '%' " +
-                                        "  OR m.phone ILIKE '%' || CAST(:query AS TEXT) || '%') " +
-                                        "AND (m.is_deleted = FALSE OR m.is_deleted IS NULL)", nativeQuery = true)
-        Page<Member> searchMembers(
+                        "AND (m.is_deleted = FALSE OR m.is_deleted IS NULL)";
+
+        /**
+         * The {@link #SEARCH_FROM} filters as projected responses without the
+         * count query; pair with {@link #countSearchMembers}. JPQL, so sorting by
+         * entity properties works; ILIKE still renders as ILIKE on PostgreSQL.
+         */
+        @Query(RESPONSE_SELECT + "FROM Member m " + RESPONSE_JOINS +
+                        "WHERE (:chapterId IS NULL OR c.id = :chapterId) " +
+                        "AND (:eduLevel IS NULL OR el.name = :eduLevel) " +
+                        "AND (:sector IS NULL OR ws.name = :sector) " +
+                        "AND (:status IS NULL OR m.membershipStatus = :status) " +
+                        "AND (:query IS NULL OR m.fullName ILIKE %:query% OR m.membershipCode ILIKE %:query% " +
+                        "OR m.phone ILIKE %:query%) " +
+                        "AND (m.isDeleted = false OR m.isDeleted IS NULL)")
+        Slice<MemberResponse> searchMemberResponses(
                         @Param("chapterId") Integer chapterId,
                         @Param("eduLevel") String eduLevel,
                         @Param("sector") String sector,
-                        @Param("status") String status,
+                        @Param("status") MembershipStatus status,
                         @Param("query") String query,
                         Pageable pageable);
 
-        @Query("SELECT COALESCE(MAX(m.id), 0) FROM Member m")
-        Long getLastMemberId();
+        @Query(value = "SELECT COUNT(*) " + SEARCH_FROM, nativeQuery = true)
+        long countSearchMembers(
+                        @Param("chapterId") Integer chapterId,
+                        @Param("eduLevel") String eduLevel,
+                        @Param("sector") String sector,
+                        @Param("status") String status,
+                        @Param("query") String query);
+
+        /**
+         * Same filters as {@link #SEARCH_FROM} (query required), ordered by
+         * trigram similarity to the query. PostgreSQL with pg_trgm only; the
+         * ILIKE predicates are served by the GIN trigram indexes. Returns ids
+         * only; load the page with {@link #findResponsesByIdIn}.
+         */
+        @Query(value = "SELECT m.member_id " + SEARCH_FROM + " " +
+                        "ORDER BY GREATEST(similarity(m.full_name, CAST(:query AS TEXT)), " +
+                        "  similarity(COALESCE(m.membership_code, ''), CAST(:query AS TEXT)), " +
+                        "  similarity(COALESCE(m.phone, ''), CAST(:query AS TEXT))) DESC, m.member_id", nativeQuery = true)
+        Slice<Integer> searchMembersRanked(
+                        @Param("chapterId") Integer chapterId,
+                        @Param("eduLevel") String eduLevel,
+                        @Param("sector") String sector,
+                        @Param("status") String status,
+                        @Param("query") String query,
+                        Pageable pageable);
 
         @Query("SELECT COUNT(m) FROM Member m WHERE (m.isDeleted = false OR m.isDeleted IS NULL)")
         long countActiveMembers();
@@ -1,26 +1,65 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.FeeResponse;
 import com.sewa.entity.MembershipFee;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface MembershipFeeRepository extends JpaRepository<MembershipFee, Integer> {
-        List<MembershipFee> findByMemberId(Integer memberId);
+public interface MembershipFeeRepository extends JpaRepository<MembershipFee, Integer>, JpaSpecificationExecutor<MembershipFee> {
+        /** The member is read for the response and the trend rollups */
+        @Override
+        @EntityGraph(attributePaths = "member")
+        java.util.Optional<MembershipFee> findById(Integer id);
 
-        List<MembershipFee> findByMemberMembershipCode(String membershipCode);
+        /** Select list building {@link FeeResponse} from one joined row; alias {@code f} */
+        String RESPONSE_SELECT = "SELECT new com.sewa.dto.response.FeeResponse(f.id, COALESCE(m.fullName, 'N/A'), " +
+                        "COALESCE(m.membershipCode, 'N/A'), f.financialYear, f.amount, f.paymentDate, f.paymentDate, " +
+                        "f.transactionId, f.transactionId, f.paymentStatus, f.paymentStatus, f.remarks, " +
+                        "f.createdAt, f.updatedAt) FROM MembershipFee f LEFT JOIN f.member m ";
 
-        @org.springframework.data.jpa.repository.Query("SELECT f FROM MembershipFee f WHERE " +
+        @org.springframework.data.jpa.repository.Query(RESPONSE_SELECT + "WHERE m.id = :memberId")
+        List<FeeResponse> findResponsesByMemberId(
+                        @org.springframework.data.repository.query.Param("memberId") Integer memberId);
+
+        @org.springframework.data.jpa.repository.Query(RESPONSE_SELECT + "WHERE m.membershipCode = :membershipCode")
+        List<FeeResponse> findResponsesByMemberMembershipCode(
+                        @org.springframework.data.repository.query.Param("membershipCode") String membershipCode);
+
+        String SEARCH_WHERE = "WHERE " +
                         "(:query IS NULL OR f.member.fullName ILIKE %:query% OR f.member.membershipCode ILIKE %:query% OR f.transactionId ILIKE %:query%) "
                         +
                         "AND (:status IS NULL OR f.paymentStatus = :status) " +
                         "AND (:year IS NULL OR f.financialYear = :year) " +
-                        "AND (f.isDeleted = false OR f.isDeleted IS NULL)")
+                        "AND (f.isDeleted = false OR f.isDeleted IS NULL)";
+
+        @org.springframework.data.jpa.repository.Query("SELECT f FROM MembershipFee f " + SEARCH_WHERE)
         org.springframework.data.domain.Page<MembershipFee> searchFees(
                         @org.springframework.data.repository.query.Param("query") String query,
                         @org.springframework.data.repository.query.Param("status") com.sewa.entity.enums.PaymentStatus status,
                         @org.springframework.data.repository.query.Param("year") String year,
                         org.springframework.data.domain.Pageable pageable);
+
+        /** {@link #searchFees} as projected responses without the count query; pair with {@link #countSearchFees} */
+        @org.springframework.data.jpa.repository.Query(RESPONSE_SELECT + SEARCH_WHERE)
+        org.springframework.data.domain.Slice<FeeResponse> searchFeeResponses(
+                        @org.springframework.data.repository.query.Param("query") String query,
+                        @org.springframework.data.repository.query.Param("status") com.sewa.entity.enums.PaymentStatus status,
+                        @org.springframework.data.repository.query.Param("year") String year,
+                        org.springframework.data.domain.Pageable pageable);
+
+        @org.springframework.data.jpa.repository.Query("SELECT COUNT(f) FROM MembershipFee f " + SEARCH_WHERE)
+        long countSearchFees(
+                        @org.springframework.data.repository.query.Param("query") String query,
+                        @org.springframework.data.repository.query.Param("status") com.sewa.entity.enums.PaymentStatus status,
+                        @org.springframework.data.repository.query.Param("year") String year);
+
+        /** Page of all fees without the count query (see PageCounter) */
+        @org.springframework.data.jpa.repository.Query(RESPONSE_SELECT)
+        org.springframework.data.domain.Slice<FeeResponse> findAllResponses(
+                        org.springframework.data.domain.Pageable pageable);
 }
@@ -1,9 +1,32 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.NoticeResponse;
 import com.sewa.entity.Notice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Integer> {
+
+    @Override
+    @EntityGraph(attributePaths = "author")
+    List<Notice> findAll();
+
+    /**
+     * Forward-only scroll for streaming exports, projected straight into DTOs so
+     * no entity or author is managed per row; consume inside a transaction
+     */
+    @Query("SELECT new com.sewa.dto.response.NoticeResponse(n.id, n.title, n.content, " +
+            "COALESCE(a.username, 'System'), n.active, n.expiresAt, n.createdAt, n.updatedAt) " +
+            "FROM Notice n LEFT JOIN n.author a ORDER BY n.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500") })
+    Stream<NoticeResponse> streamResponses();
 }
@@ -1,12 +1,35 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.CalendarEventResponse;
 import com.sewa.entity.SewaCalendar;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SewaCalendarRepository extends JpaRepository<SewaCalendar, Integer> {
+    /** Events are serialized as entities, chapter included */
+    @EntityGraph(attributePaths = "chapter")
     List<SewaCalendar> findByChapterId(Integer chapterId);
+
+    @Override
+    @EntityGraph(attributePaths = "chapter")
+    List<SewaCalendar> findAll();
+
+    /**
+     * Forward-only scroll for streaming exports, projected straight into DTOs so
+     * no entity or chapter is managed per row; consume inside a transaction
+     */
+    @Query("SELECT new com.sewa.dto.response.CalendarEventResponse(e.id, e.eventDate, e.title, e.description, " +
+            "e.eventType, c.id, c.chapterName, e.visibility, e.createdAt) " +
+            "FROM SewaCalendar e LEFT JOIN e.chapter c ORDER BY e.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500") })
+    Stream<CalendarEventResponse> streamResponses();
 }
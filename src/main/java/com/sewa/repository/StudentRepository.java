@@ -1,28 +1,64 @@
 package com.sewa.repository;
 
+import com.sewa.dto.response.StudentResponse;
 import com.sewa.entity.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Integer> {
+public interface StudentRepository extends JpaRepository<Student, Integer>, JpaSpecificationExecutor<Student> {
+    @Override
+    @EntityGraph(Student.DETAIL)
+    Optional<Student> findById(Integer id);
+
+    @EntityGraph(Student.DETAIL)
     Optional<Student> findByMembershipCode(String membershipCode);
 
+    @EntityGraph(Student.DETAIL)
     Optional<Student> findByUserUsername(String username);
 
-    @Query("SELECT s.chapter.chapterName, COUNT(s) FROM Student s GROUP BY s.chapter.chapterName")
+    /**
+     * All student groupings in one scan (PostgreSQL GROUPING SETS). Columns:
+     * grouping flags for chapter and educational level (0 = grouped by it),
+     * the two names and the count. The row with both flags set is the total.
+     */
+    @Query(value = "SELECT GROUPING(c.chapter_name), GROUPING(el.name), c.chapter_name, el.name, COUNT(*) " +
+            "FROM students s " +
+            "LEFT JOIN chapters c ON c.chapter_id = s.chapter_id " +
+            "LEFT JOIN educational_levels el ON el.id = s.educational_level_id " +
+            "WHERE (s.is_deleted = FALSE OR s.is_deleted IS NULL) " +
+            "GROUP BY GROUPING SETS ((c.chapter_name), (el.name), ())", nativeQuery = true)
+    List<Object[]> aggregateStudentGroupings();
+
+    @Query("SELECT s.chapter.chapterName, COUNT(s) FROM Student s WHERE (s.isDeleted = false OR s.isDeleted IS NULL) GROUP BY s.chapter.chapterName")
     List<Object[]> countStudentsByChapter();
 
-    @Query("SELECT s.educationalLevel, COUNT(s) FROM Student s GROUP BY s.educationalLevel")
+    @Query("SELECT s.educationalLevel.name, COUNT(s) FROM Student s WHERE (s.isDeleted = false OR s.isDeleted IS NULL) GROUP BY s.educationalLevel.name")
     List<Object[]> countStudentsByEducationalLevel();
 
-    org.springframework.data.domain.Page<Student> findByStatus(com.sewa.entity.enums.MembershipStatus status,
+    @Query("SELECT COUNT(s) FROM Student s WHERE (s.isDeleted = false OR s.isDeleted IS NULL)")
+    long countActiveStudents();
+
+    /** Select list building {@link StudentResponse} from one joined row; alias {@code s} */
+    String RESPONSE_SELECT = "SELECT new com.sewa.dto.response.StudentResponse(s.id, u.username, u.email, " +
+            "s.fullName, s.membershipCode, s.institute, s.course, s.phone, el.name, s.status, s.createdAt, s.updatedAt) " +
+            "FROM Student s LEFT JOIN s.user u LEFT JOIN s.educationalLevel el ";
+
+    @Query(value = RESPONSE_SELECT + "WHERE s.status = :status",
+            countQuery = "SELECT COUNT(s) FROM Student s WHERE s.status = :status")
+    org.springframework.data.domain.Page<StudentResponse> findResponsesByStatus(
+            @Param("status") com.sewa.entity.enums.MembershipStatus status,
             org.springframework.data.domain.Pageable pageable);
 
-    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Student s")
-    Long getLastStudentId();
+    /** Page of all students without the count query (see PageCounter) */
+    @Query(RESPONSE_SELECT)
+    org.springframework.data.domain.Slice<StudentResponse> findAllResponses(
+            org.springframework.data.domain.Pageable pageable);
 }
@@ -1,7 +1,10 @@
 package com.sewa.repository;
 
 import com.sewa.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,6 +13,11 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByUsername(String username);
 
+    /** Loads the user with roles and their permissions in a single round trip */
+    @EntityGraph(attributePaths = { "roles", "roles.permissions" })
+    @Query("SELECT u FROM User u WHERE u.username = :username")
+    Optional<User> findWithAuthoritiesByUsername(@Param("username") String username);
+
     Optional<User> findByEmail(String email);
 
     Boolean existsByUsername(String username);
@@ -0,0 +1,74 @@
+package com.sewa.security;
+
+import com.sewa.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes authority collections. There are only a handful of distinct
+ * role/permission combinations in the system, so every principal with the
+ * same profile shares one immutable, pre-built {@link GrantedAuthority} list
+ * instead of allocating a fresh one per request.
+ */
+@Component
+public class AuthorityRegistry implements MetricsSource {
+
+    private final Map<AuthorityProfile, List<GrantedAuthority>> profiles = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+    private final int maxProfiles;
+
+    public AuthorityRegistry(@Value("${sewa.security.authority-registry.max-profiles:1024}") int maxProfiles) {
+        this.maxProfiles = maxProfiles;
+    }
+
+    public List<GrantedAuthority> authoritiesFor(List<String> roles, List<String> permissions) {
+        AuthorityProfile profile = new AuthorityProfile(roles, permissions);
+        List<GrantedAuthority> existing = profiles.get(profile);
+        if (existing != null) {
+            return existing;
+        }
+        List<GrantedAuthority> built = build(roles, permissions);
+        // Guard against unbounded growth if tokens ever carry arbitrary authority sets
+        if (profiles.size() >= maxProfiles) {
+            return built;
+        }
+        List<GrantedAuthority> previous = profiles.putIfAbsent(profile, built);
+        return previous != null ? previous : built;
+    }
+
+    private List<GrantedAuthority> build(List<String> roles, List<String> permissions) {
+        List<GrantedAuthority> list = new ArrayList<>(roles.size() + permissions.size());
+        roles.forEach(role -> list.add(intern(role)));
+        permissions.forEach(permission -> list.add(intern(permission)));
+        return List.copyOf(list);
+    }
+
+    private GrantedAuthority intern(String authority) {
+        return authorities.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "authorityRegistry";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("profiles", profiles.size());
+        metrics.put("authorities", authorities.size());
+        metrics.put("maxProfiles", maxProfiles);
+        return metrics;
+    }
+
+    private record AuthorityProfile(List<String> roles, List<String> permissions) {
+    }
+}
@@ -1,22 +1,102 @@
 package com.sewa.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.entity.Permission;
+import com.sewa.entity.Role;
+import com.sewa.entity.User;
 import com.sewa.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService, MetricsSource {
 
     private final UserRepository userRepository;
 
+    /**
+     * Short-lived cache so login and /auth/me do not reload the same user,
+     * roles and permissions on every call. Entries are dropped as soon as a
+     * user, role or permission changes, including changes to only the roles
+     * of a user or the permissions of a role (see CollectionChangePublisher).
+     */
+    private final Cache<String, SecurityUser> cache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+            @Value("${sewa.security.user-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${sewa.security.user-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        SecurityUser user = cache.get(username, key -> userRepository.findWithAuthoritiesByUsername(key)
                 .map(SecurityUser::new)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+                .orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return user;
+    }
+
+    /**
+     * Called by DaoAuthenticationProvider after a successful login whose stored
+     * hash has a lower BCrypt cost than configured, so the cost factor can be
+     * raised without a migration.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findWithAuthoritiesByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "User not found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        log.info("Password hash upgraded for user {}", user.getUsername());
+        return new SecurityUser(userRepository.save(user));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof User user) {
+            cache.invalidate(user.getUsername());
+        } else if (event.isOf(Role.class) || event.isOf(Permission.class)) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "userDetailsCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", cache.estimatedSize());
+        metrics.put("hits", stats.hitCount());
+        metrics.put("misses", stats.missCount());
+        metrics.put("hitRate", stats.hitRate());
+        return metrics;
     }
 }
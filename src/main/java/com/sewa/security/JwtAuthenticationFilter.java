@@ -1,5 +1,6 @@
 package com.sewa.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,22 +9,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache tokenCache;
+    private final AuthorityRegistry authorityRegistry;
+    private final TokenRevocationService revocationService;
 
     @Override
     protected void doFilterInternal(
@@ -34,7 +35,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -43,32 +43,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
         try {
-            username = jwtUtils.extractUsername(jwt);
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Extract roles, permissions, and userId from JWT instead of hitting DB
-                List<String> roles = jwtUtils.extractClaim(jwt, claims -> (List<String>) claims.get("roles"));
-                List<String> permissions = jwtUtils.extractClaim(jwt,
-                        claims -> (List<String>) claims.get("permissions"));
-                Integer userId = jwtUtils.extractClaim(jwt, claims -> (Integer) claims.get("userId"));
-
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                if (permissions != null) {
-                    permissions.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .forEach(authorities::add);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                VerifiedTokenCache.CachedAuthentication cached = resolve(jwt);
+                VerifiedToken token = cached.token();
+                if (revocationService.isRevoked(token.jti())) {
+                    filterChain.doFilter(request, response);
+                    return;
                 }
 
                 // Create a lightweight principal that JpaConfig can use
                 // In production, you might create a custom Principal object here
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        username, null, authorities);
+                        token.username(), null, cached.authorities());
 
                 // Add userId to details so JpaConfig can find it without hitting DB
                 Map<String, Object> details = new HashMap<>();
-                details.put("userId", userId);
+                details.put("userId", token.userId());
                 details.put("remoteAddress", request.getRemoteAddr());
 
                 authToken.setDetails(details);
@@ -79,4 +69,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Streaming responses finish on an async dispatch, where the security
+     * context of the original request is gone; authenticate it again (a cache
+     * hit) so authorization passes there too.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Cache hits skip signature verification and authority building entirely;
+     * misses parse the token once and remember the result until it expires.
+     */
+    private VerifiedTokenCache.CachedAuthentication resolve(String jwt) {
+        String key = tokenCache.keyOf(jwt);
+        VerifiedTokenCache.CachedAuthentication cached = tokenCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Single parse + signature check; roles, permissions and userId come from the JWT instead of the DB
+        VerifiedToken token = jwtUtils.verify(jwt);
+        if (token.username() == null) {
+            throw new JwtException("Token has no subject");
+        }
+        return tokenCache.put(key, token, authorityRegistry.authoritiesFor(token.roles(), token.permissions()));
+    }
 }
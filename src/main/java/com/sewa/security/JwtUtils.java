@@ -2,6 +2,8 @@ package com.sewa.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,21 +15,52 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtUtils {
 
+    static final String PERMISSION_VERSION_CLAIM = "pv";
+    static final String PERMISSION_BITSET_CLAIM = "pb";
+    /** Refresh-token family (session) the access token was issued for */
+    static final String FAMILY_CLAIM = "fid";
+
     @Value("${sewa.jwt.secret}")
     private String jwtSecret;
 
     @Value("${sewa.jwt.expiration-ms}")
     private int jwtExpirationMs;
 
+    /** Encode permissions as a bitset claim instead of a list of strings */
+    @Value("${sewa.jwt.compact-permissions:false}")
+    private boolean compactPermissions;
+
+    private final PermissionIndex permissionIndex;
+
+    // Built once: the signing key and parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String generateToken(UserDetails userDetails) {
+        return generateToken(userDetails, null);
+    }
+
+    /** @param familyId refresh-token family of the session, so logout can end just that session */
+    public String generateToken(UserDetails userDetails, String familyId) {
         Map<String, Object> claims = new HashMap<>();
+        if (familyId != null) {
+            claims.put(FAMILY_CLAIM, familyId);
+        }
 
         if (userDetails instanceof SecurityUser) {
             claims.put("userId", ((SecurityUser) userDetails).getId());
@@ -44,28 +77,39 @@ public class JwtUtils {
                 .collect(Collectors.toList());
 
         claims.put("roles", roles);
-        claims.put("permissions", permissions);
+        String bitset = compactPermissions ? permissionIndex.encode(permissions) : null;
+        if (bitset != null) {
+            claims.put(PERMISSION_VERSION_CLAIM, PermissionIndex.FORMAT_VERSION);
+            claims.put(PERMISSION_BITSET_CLAIM, bitset);
+        } else {
+            claims.put("permissions", permissions);
+        }
 
         return createToken(claims, userDetails.getUsername());
     }
 
-    @SuppressWarnings("unchecked")
     public List<String> extractPermissions(String token) {
-        return extractClaim(token, claims -> (List<String>) claims.get("permissions"));
+        return verify(token).permissions();
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    /**
+     * Parses the token exactly once, verifying signature and expiry.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(extractAllClaims(token), permissionIndex);
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
@@ -83,7 +127,7 @@ public class JwtUtils {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     private Boolean isTokenExpired(String token) {
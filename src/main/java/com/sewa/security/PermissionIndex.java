@@ -0,0 +1,121 @@
+package com.sewa.security;
+
+import com.sewa.entity.Permission;
+import com.sewa.repository.PermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of the permissions table used to encode a permission list
+ * as a bitset (bit n = permission_id n) and to expand it again. Permission ids
+ * are identity values that are never reused, so a bit keeps its meaning even
+ * as new permissions are added. A bit above every id the index has checked
+ * triggers one reload; a bit at or below it that has no code belongs to a
+ * deleted permission and is skipped without going back to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionIndex {
+
+    /** Format version of the {@code pb} claim, written to {@code pv}. */
+    public static final int FORMAT_VERSION = 1;
+
+    private final PermissionRepository permissionRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        String[] codes = new String[0];
+        Map<String, Integer> ids = new HashMap<>();
+        int highest = 0;
+        for (Permission permission : permissionRepository.findAll()) {
+            int id = permission.getId();
+            highest = Math.max(highest, id);
+            if (id >= codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(id + 1, codes.length * 2));
+            }
+            codes[id] = permission.getPermissionCode();
+            ids.put(permission.getPermissionCode(), id);
+        }
+        this.snapshot = new Snapshot(codes, ids, highest);
+        log.debug("Permission index loaded with {} permissions", ids.size());
+    }
+
+    /**
+     * Encodes the given permission codes as a base64url bitset, or returns
+     * {@code null} if any code is not in the permission table.
+     */
+    public String encode(Collection<String> permissionCodes) {
+        Snapshot current = snapshot();
+        BitSet bits = new BitSet();
+        for (String code : permissionCodes) {
+            Integer id = current.ids().get(code);
+            if (id == null) {
+                return null;
+            }
+            bits.set(id);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    }
+
+    public List<String> decode(String encoded) {
+        BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(encoded));
+        Snapshot current = snapshot();
+        int highest = bits.length() - 1;
+        if (highest > current.checkedUpTo()) {
+            current = reloadFor(highest);
+        }
+        List<String> permissions = new ArrayList<>(bits.cardinality());
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            if (id < current.codes().length && current.codes()[id] != null) {
+                permissions.add(current.codes()[id]);
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Reloads unless another thread already did for this id; afterwards every
+     * id up to {@code id} counts as checked, so a deleted permission costs one
+     * reload in total rather than one per decode.
+     */
+    private synchronized Snapshot reloadFor(int id) {
+        if (snapshot.checkedUpTo() < id) {
+            load();
+            Snapshot loaded = snapshot;
+            snapshot = new Snapshot(loaded.codes(), loaded.ids(), Math.max(loaded.checkedUpTo(), id));
+        }
+        return snapshot;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /** @param checkedUpTo highest id known to be either present in {@code codes} or deleted */
+    private record Snapshot(String[] codes, Map<String, Integer> ids, int checkedUpTo) {
+    }
+}
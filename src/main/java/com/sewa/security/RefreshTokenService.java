@@ -0,0 +1,113 @@
+package com.sewa.security;
+
+import com.sewa.entity.RefreshToken;
+import com.sewa.entity.User;
+import com.sewa.exception.UnauthorizedException;
+import com.sewa.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens. Every refresh revokes the
+ * presented token and issues a new one in the same family; presenting a token
+ * that was already rotated is treated as theft and revokes the entire family.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            @Value("${sewa.jwt.refresh-expiration-ms:2592000000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = Duration.ofMillis(refreshExpirationMs);
+    }
+
+    /** Starts a new token family, i.e. a new session, e.g. on login. */
+    @Transactional
+    public Issued issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        return new Issued(user, create(user, familyId), familyId);
+    }
+
+    /**
+     * Validates and rotates the presented token. The result carries the new
+     * raw token, its family and the user it belongs to.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Issued rotate(String rawToken) {
+        RefreshToken stored = refreshTokenRepository.findForUpdateByTokenHash(TokenHashes.sha256(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}; revoked {} tokens in family",
+                    stored.getUser().getUsername(), revoked);
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+
+        stored.setRevoked(true);
+        stored.setRevokedAt(now);
+        refreshTokenRepository.save(stored);
+        return new Issued(stored.getUser(), create(stored.getUser(), stored.getFamilyId()), stored.getFamilyId());
+    }
+
+    /** Ends one session: every token of the family, on this device only. */
+    @Transactional
+    public void revokeFamily(String familyId) {
+        if (familyId != null) {
+            refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void revokeAllForUser(Integer userId) {
+        if (userId != null) {
+            refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${sewa.jwt.refresh-purge-interval-ms:86400000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHashes.sha256(rawToken))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(refreshExpiration))
+                .build());
+        return rawToken;
+    }
+
+    /** A raw refresh token, the family (session) it belongs to and its user. */
+    public record Issued(User user, String refreshToken, String familyId) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.sewa.security;
+
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.entity.RevokedToken;
+import com.sewa.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Server-side logout. Revoked token ids (JTI) live in an exact in-memory set
+ * fronted by a Bloom filter, so the per-request check for the common case (a
+ * token that was never revoked) is a few bit probes with no allocation and no
+ * map lookup. Entries are persisted to {@code revoked_tokens}, loaded in bulk
+ * before the web server starts accepting requests and purged once the token
+ * would have expired anyway. Revocations made by other instances are picked
+ * up by a periodic incremental read of the table, so they take effect here
+ * within {@code sewa.jwt.revocation.refresh-interval-ms}.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements MetricsSource, SmartInitializingSingleton {
+
+    private static final int HASHES = 4;
+
+    /** Overlap between incremental refreshes, for clock skew between instances and late commits. */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int bloomBits;
+    private volatile LocalDateTime refreshedUpTo;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            @Value("${sewa.jwt.revocation.bloom-bits:1048576}") int bloomBits) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bloomBits = bloomBits;
+        this.bloom = new AtomicLongArray((bloomBits + 63) / 64);
+    }
+
+    /** Runs once all singletons exist, before the embedded server is started. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(startedAt)
+                .forEach(token -> add(token.getJti(), toEpochMillis(token.getExpiresAt())));
+        refreshedUpTo = startedAt;
+        log.info("Loaded {} revoked tokens", revoked.size());
+    }
+
+    /** Picks up tokens revoked on other instances since the last read. */
+    @Scheduled(initialDelayString = "${sewa.jwt.revocation.refresh-interval-ms:30000}",
+            fixedDelayString = "${sewa.jwt.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (refreshedUpTo == null) {
+            load();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = refreshedUpTo.minus(REFRESH_OVERLAP);
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revokedTokenRepository.findByRevokedAtAfter(since).forEach(token -> {
+            long expiresAt = toEpochMillis(token.getExpiresAt());
+            if (expiresAt > now) {
+                add(token.getJti(), expiresAt);
+            }
+        });
+        refreshedUpTo = startedAt;
+        if (revoked.size() > before) {
+            log.debug("Picked up {} tokens revoked elsewhere", revoked.size() - before);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !mightContain(bloom, jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        add(jti, expiresAtMillis);
+    }
+
+    /** Drops expired entries; the Bloom filter cannot delete, so it is rebuilt. */
+    @Scheduled(fixedDelayString = "${sewa.jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        rebuildBloom();
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Purged {} expired revoked tokens", deleted);
+        }
+    }
+
+    private synchronized void rebuildBloom() {
+        AtomicLongArray rebuilt = new AtomicLongArray(bloom.length());
+        revoked.keySet().forEach(jti -> setBits(rebuilt, jti));
+        bloom = rebuilt;
+    }
+
+    private synchronized void add(String jti, long expiresAtMillis) {
+        revoked.put(jti, expiresAtMillis);
+        setBits(bloom, jti);
+    }
+
+    private void setBits(AtomicLongArray bits, String jti) {
+        int h1 = jti.hashCode();
+        int h2 = secondaryHash(jti);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bloomBits);
+            long mask = 1L << (bit & 63);
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /** Bloom filter probe only; may answer true for a token that was never revoked. */
+    boolean mightBeRevoked(String jti) {
+        return mightContain(bloom, jti);
+    }
+
+    private boolean mightContain(AtomicLongArray bits, String jti) {
+        int h1 = jti.hashCode();
+        int h2 = secondaryHash(jti);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bloomBits);
+            if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** FNV-1a over the chars; independent enough from String.hashCode for double hashing. */
+    private static int secondaryHash(String value) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "tokenRevocation";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("revoked", revoked.size());
+        metrics.put("bloomBits", bloomBits);
+        return metrics;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sewa.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been checked.
+ * Built once per token so the filter never has to re-parse it.
+ */
+public record VerifiedToken(
+        String jti,
+        String username,
+        Integer userId,
+        List<String> roles,
+        List<String> permissions,
+        Date expiration,
+        String familyId) {
+
+    static VerifiedToken from(Claims claims, PermissionIndex permissionIndex) {
+        Object userId = claims.get("userId");
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                userId instanceof Number number ? number.intValue() : null,
+                toStringList(claims.get("roles")),
+                permissions(claims, permissionIndex),
+                claims.getExpiration(),
+                claims.get(JwtUtils.FAMILY_CLAIM, String.class));
+    }
+
+    /**
+     * Compact tokens carry a versioned permission bitset ({@code pv}/{@code pb});
+     * older tokens carry the plain {@code permissions} string list.
+     */
+    private static List<String> permissions(Claims claims, PermissionIndex permissionIndex) {
+        Object bitset = claims.get(JwtUtils.PERMISSION_BITSET_CLAIM);
+        if (bitset instanceof String encoded
+                && claims.get(JwtUtils.PERMISSION_VERSION_CLAIM) instanceof Number version
+                && version.intValue() == PermissionIndex.FORMAT_VERSION) {
+            return permissionIndex.decode(encoded);
+        }
+        return toStringList(claims.get("permissions"));
+    }
+
+    private static List<String> toStringList(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return Collections.emptyList();
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+}
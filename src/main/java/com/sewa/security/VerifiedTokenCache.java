@@ -0,0 +1,93 @@
+package com.sewa.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sewa.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already-verified bearer tokens. Keyed by the SHA-256 of the
+ * raw token (the token itself is never retained) and each entry expires at the
+ * token's own {@code exp}, so a hit is always a token that would still verify.
+ */
+@Component
+public class VerifiedTokenCache implements MetricsSource {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public VerifiedTokenCache(@Value("${sewa.jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        long remainingMs = value.token().expiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public CachedAuthentication get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public CachedAuthentication put(String key, VerifiedToken token, List<GrantedAuthority> authorities) {
+        CachedAuthentication entry = new CachedAuthentication(token, authorities);
+        if (token.expiration() != null) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public String keyOf(String token) {
+        return TokenHashes.sha256(token);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "verifiedTokenCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", cache.estimatedSize());
+        metrics.put("hits", stats.hitCount());
+        metrics.put("misses", stats.missCount());
+        metrics.put("evictions", stats.evictionCount());
+        metrics.put("hitRate", stats.hitRate());
+        return metrics;
+    }
+
+    /** Verified claims plus the immutable authority list built from them. */
+    public record CachedAuthentication(VerifiedToken token, List<GrantedAuthority> authorities) {
+    }
+}
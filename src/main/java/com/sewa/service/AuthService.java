@@ -1,6 +1,7 @@
 package com.sewa.service;
 
 import com.sewa.dto.request.AuthRequest;
+import com.sewa.dto.request.RefreshTokenRequest;
 import com.sewa.dto.request.RegisterRequest;
 import com.sewa.dto.response.AuthResponse;
 
@@ -9,6 +10,8 @@ public interface AuthService {
 
     AuthResponse login(AuthRequest request);
 
+    AuthResponse refresh(RefreshTokenRequest request);
+
     AuthResponse getMe(String username);
 
     void logout(String token);
@@ -1,11 +1,16 @@
 package com.sewa.service;
 
+import com.sewa.dto.response.CalendarEventResponse;
 import com.sewa.entity.SewaCalendar;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CalendarService {
     List<SewaCalendar> getAllEvents();
 
+    /** Feeds every event to {@code sink} one at a time; for streaming responses. */
+    void streamAllEvents(Consumer<CalendarEventResponse> sink);
+
     List<SewaCalendar> getChapterEvents(Integer chapterId);
 
     SewaCalendar getEventById(Integer id);
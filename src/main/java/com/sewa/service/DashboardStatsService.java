@@ -0,0 +1,15 @@
+package com.sewa.service;
+
+import com.sewa.common.dto.DashboardReportResponse;
+
+public interface DashboardStatsService {
+
+    /** Current aggregates with an ETag that changes whenever they do. */
+    Snapshot getSnapshot();
+
+    /** Recomputes the aggregates from the database and returns the drift found. */
+    long reconcile();
+
+    record Snapshot(DashboardReportResponse report, String etag) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.sewa.service;
 
+import com.sewa.common.dto.CursorPageDto;
 import com.sewa.dto.request.FeeRequest;
 import com.sewa.dto.response.FeeResponse;
 import org.springframework.data.domain.Page;
@@ -12,14 +13,17 @@ public interface FeeService {
 
     List<FeeResponse> getFeesByMemberCode(String code);
 
-    Page<FeeResponse> getAllFees(Pageable pageable);
+    Page<FeeResponse> getAllFees(Pageable pageable, String countStrategy);
 
     Page<FeeResponse> searchFees(String query, com.sewa.entity.enums.PaymentStatus status, String year,
-            Pageable pageable);
+            Pageable pageable, String countStrategy);
 
     FeeResponse saveFee(FeeRequest feeRequest);
 
     FeeResponse updateFee(Integer id, FeeRequest feeRequest);
 
     void deleteFee(Integer id);
+
+    CursorPageDto<FeeResponse> scrollFees(com.sewa.entity.enums.PaymentStatus status, String year, String cursor,
+            int size, String direction, boolean estimateTotal);
 }
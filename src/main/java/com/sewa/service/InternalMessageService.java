@@ -3,9 +3,13 @@ package com.sewa.service;
 import com.sewa.dto.request.MessageRequest;
 import com.sewa.dto.response.MessageResponse;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InternalMessageService {
     List<MessageResponse> getAllMessages();
 
+    /** Feeds every message to {@code sink} one at a time; for streaming responses. */
+    void streamAllMessages(Consumer<MessageResponse> sink);
+
     MessageResponse sendMessage(String senderUsername, MessageRequest messageRequest);
 }
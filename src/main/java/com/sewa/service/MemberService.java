@@ -1,10 +1,14 @@
 package com.sewa.service;
 
+import com.sewa.common.dto.CursorPageDto;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.MemberResponse;
 import com.sewa.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface MemberService {
     Page<MemberResponse> getAllMembers(Pageable pageable);
 
@@ -20,6 +24,11 @@ public interface MemberService {
 
     MemberResponse rejectMember(Integer memberId);
 
+    /** Approves all given members in one transaction and reports the outcome per id. */
+    BulkActionResponse approveMembers(List<Integer> memberIds);
+
+    BulkActionResponse rejectMembers(List<Integer> memberIds);
+
     MemberResponse updateMember(Integer id, MemberResponse request);
 
     MemberResponse updateMemberStatus(Integer id, String status);
@@ -32,5 +41,8 @@ public interface MemberService {
 
     Page<MemberResponse> searchMembers(Integer chapterId, String eduLevel,
             String sector, String status,
-            String query, Pageable pageable);
+            String query, Pageable pageable, String countStrategy);
+
+    CursorPageDto<MemberResponse> scrollMembers(Integer chapterId, String status, String query,
+            String cursor, int size, String sort, String direction, boolean estimateTotal);
 }
@@ -3,9 +3,13 @@ package com.sewa.service;
 import com.sewa.dto.request.NoticeRequest;
 import com.sewa.dto.response.NoticeResponse;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface NoticeService {
     List<NoticeResponse> getAllNotices();
 
+    /** Feeds every notice to {@code sink} one at a time; for streaming responses. */
+    void streamAllNotices(Consumer<NoticeResponse> sink);
+
     NoticeResponse saveNotice(String authorUsername, NoticeRequest noticeRequest);
 }
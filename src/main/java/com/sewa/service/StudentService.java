@@ -1,12 +1,16 @@
 package com.sewa.service;
 
+import com.sewa.common.dto.CursorPageDto;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.StudentResponse;
 import com.sewa.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface StudentService {
-    Page<StudentResponse> getAllStudents(Pageable pageable);
+    Page<StudentResponse> getAllStudents(Pageable pageable, String countStrategy);
 
     StudentResponse getStudentById(Integer id);
 
@@ -16,6 +20,11 @@ public interface StudentService {
 
     StudentResponse rejectStudent(Integer studentId);
 
+    /** Approves all given students in one transaction and reports the outcome per id. */
+    BulkActionResponse approveStudents(List<Integer> studentIds);
+
+    BulkActionResponse rejectStudents(List<Integer> studentIds);
+
     StudentResponse updateStudent(Integer id, StudentResponse request);
 
     StudentResponse updateStudentStatus(Integer id, String status);
@@ -23,4 +32,7 @@ public interface StudentService {
     void deleteStudent(Integer id);
 
     Page<StudentResponse> getPendingStudents(Pageable pageable);
+
+    CursorPageDto<StudentResponse> scrollStudents(String status, String cursor, int size, String sort,
+            String direction, boolean estimateTotal);
 }
@@ -0,0 +1,30 @@
+package com.sewa.service;
+
+import com.sewa.dto.response.TrendBreakdownItem;
+import com.sewa.dto.response.TrendSeriesResponse;
+import com.sewa.entity.enums.TrendMetric;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TrendService {
+
+    enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    /**
+     * Series over {@code [from, to]} (default: the last year), zero-filled. When
+     * it has more than {@code maxPoints} periods, consecutive periods are summed
+     * into one point.
+     */
+    TrendSeriesResponse getSeries(TrendMetric metric, LocalDate from, LocalDate to, Granularity granularity,
+            Integer chapterId, String financialYear, Integer maxPoints);
+
+    List<TrendBreakdownItem> getByChapter(TrendMetric metric, LocalDate from, LocalDate to, String financialYear);
+
+    List<TrendBreakdownItem> getByFinancialYear(TrendMetric metric, LocalDate from, LocalDate to, Integer chapterId);
+
+    /** Recomputes a metric's rollups from the source tables; returns the rows written. */
+    int rebuild(TrendMetric metric);
+}
@@ -1,6 +1,9 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.event.StatsChangedEvent;
+import com.sewa.common.event.TrendChangedEvent;
 import com.sewa.dto.request.AuthRequest;
+import com.sewa.dto.request.RefreshTokenRequest;
 import com.sewa.dto.request.RegisterRequest;
 import com.sewa.dto.response.AuthResponse;
 import com.sewa.entity.Role;
@@ -9,18 +12,27 @@ import com.sewa.entity.Member;
 import com.sewa.entity.Student;
 import com.sewa.entity.enums.MembershipStatus;
 import com.sewa.exception.SewaException;
+import com.sewa.exception.UnauthorizedException;
 import com.sewa.repository.MemberRepository;
 import com.sewa.repository.RoleRepository;
 import com.sewa.repository.StudentRepository;
 import com.sewa.repository.UserRepository;
+import com.sewa.security.CustomUserDetailsService;
 import com.sewa.security.JwtUtils;
+import com.sewa.security.RefreshTokenService;
 import com.sewa.security.SecurityUser;
+import com.sewa.security.TokenRevocationService;
+import com.sewa.security.VerifiedToken;
+import com.sewa.security.VerifiedTokenCache;
 import com.sewa.service.AuthService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +53,11 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -70,6 +87,8 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.USER, null,
+                StatsChangedEvent.Bucket.COUNTED));
 
         if ("MEMBER".equalsIgnoreCase(request.getMemberType())) {
             Member member = Member.builder()
@@ -78,6 +97,9 @@ public class AuthServiceImpl implements AuthService {
                     .membershipStatus(MembershipStatus.PENDING)
                     .build();
             memberRepository.save(member);
+            eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.MEMBER, null,
+                    StatsChangedEvent.bucketOf(member)));
+            eventPublisher.publishEvent(TrendChangedEvent.of(TrendChangedEvent.memberJoined(member, 1)));
         } else if ("STUDENT".equalsIgnoreCase(request.getMemberType())) {
             Student student = Student.builder()
                     .user(savedUser)
@@ -85,6 +107,8 @@ public class AuthServiceImpl implements AuthService {
                     .status(MembershipStatus.PENDING)
                     .build();
             studentRepository.save(student);
+            eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.STUDENT, null,
+                    StatsChangedEvent.bucketOf(student)));
         }
 
         return "Registration successful. Pending admin approval.";
@@ -102,13 +126,43 @@ public class AuthServiceImpl implements AuthService {
             throw new SewaException("Account is pending approval or inactive");
         }
 
-        String token = jwtUtils.generateToken(securityUser);
+        RefreshTokenService.Issued session = refreshTokenService.issue(user);
         Set<String> roles = user.getRoles().stream()
                 .map(Role::getRoleName)
                 .collect(Collectors.toSet());
 
         return AuthResponse.builder()
-                .token(token)
+                .token(jwtUtils.generateToken(securityUser, session.familyId()))
+                .refreshToken(session.refreshToken())
+                .username(user.getUsername())
+                .roles(roles)
+                .build();
+    }
+
+    /**
+     * The only place the database is consulted after login: the refresh token
+     * is rotated and the user is reloaded from the database, bypassing the
+     * user-details cache, so a deactivated account or a removed role stops
+     * yielding new access tokens immediately.
+     */
+    @Override
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Issued rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        User user = userRepository.findWithAuthoritiesByUsername(rotation.user().getUsername())
+                .orElseThrow(() -> new UnauthorizedException("User no longer exists"));
+        if (!user.getActive()) {
+            refreshTokenService.revokeAllForUser(user.getId());
+            throw new UnauthorizedException("Account is pending approval or inactive");
+        }
+
+        Set<String> roles = user.getRoles().stream()
+                .map(Role::getRoleName)
+                .collect(Collectors.toSet());
+
+        return AuthResponse.builder()
+                .token(jwtUtils.generateToken(new SecurityUser(user), rotation.familyId()))
+                .refreshToken(rotation.refreshToken())
                 .username(user.getUsername())
                 .roles(roles)
                 .build();
@@ -116,8 +170,13 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public AuthResponse getMe(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new SewaException("User not found"));
+        User user;
+        try {
+            // Served from the short-lived user-details cache populated at login
+            user = ((SecurityUser) userDetailsService.loadUserByUsername(username)).getUser();
+        } catch (UsernameNotFoundException e) {
+            throw new SewaException("User not found");
+        }
 
         Set<String> roles = user.getRoles().stream()
                 .map(Role::getRoleName)
@@ -131,10 +190,28 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(String token) {
-        // In a stateless JWT system, logout is usually handled by frontend destroying
-        // the token.
-        // For production, you might blacklist the token in Redis here.
-        log.info("User logged out. Token invalidated (client-side usually).");
+        String jwt = token != null && token.startsWith("Bearer ") ? token.substring(7) : token;
+        try {
+            VerifiedToken verified = jwtUtils.verify(jwt);
+            if (verified.familyId() != null) {
+                // Ends this session only; the user's other devices stay signed in
+                refreshTokenService.revokeFamily(verified.familyId());
+            } else {
+                // Access tokens issued before sessions were tracked: the family is unknown
+                refreshTokenService.revokeAllForUser(verified.userId());
+            }
+            if (verified.jti() == null) {
+                log.info("User {} logged out with a legacy token (no jti); it stays valid until expiry",
+                        verified.username());
+                return;
+            }
+            tokenRevocationService.revoke(verified.jti(), verified.expiration().getTime());
+            verifiedTokenCache.invalidate(verifiedTokenCache.keyOf(jwt));
+            log.info("User {} logged out. Token revoked.", verified.username());
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired or invalid tokens are already unusable
+            log.debug("Logout with an invalid or expired token: {}", e.getMessage());
+        }
     }
 
     @Override
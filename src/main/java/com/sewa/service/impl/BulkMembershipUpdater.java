@@ -0,0 +1,216 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.event.TrendChangedEvent;
+import com.sewa.common.service.MembershipCodeAllocator;
+import com.sewa.common.service.MembershipCodeAllocator.Kind;
+import com.sewa.dto.response.BulkActionResponse;
+import com.sewa.dto.response.BulkActionResponse.Item;
+import com.sewa.dto.response.BulkActionResponse.Outcome;
+import com.sewa.entity.Member;
+import com.sewa.entity.Student;
+import com.sewa.entity.User;
+import com.sewa.entity.enums.MembershipStatus;
+import com.sewa.exception.SewaException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Approves or rejects many members/students at once. The rows are locked in
+ * id order (so overlapping batches cannot deadlock or approve the same row
+ * twice), codes for the whole batch are reserved in one call to
+ * {@link MembershipCodeAllocator}, and all updates go out as JDBC batches.
+ * Must run inside the caller's transaction: either every row is updated or
+ * none is.
+ * <p>
+ * The JDBC updates bypass the JPA entity listener, so the events it would
+ * have published are raised here instead, with detached stand-ins carrying
+ * only what the listeners read (table and username).
+ */
+@Component
+@Slf4j
+public class BulkMembershipUpdater {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final MembershipCodeAllocator codeAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxItems;
+
+    public BulkMembershipUpdater(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+            MembershipCodeAllocator codeAllocator, ApplicationEventPublisher eventPublisher,
+            @Value("${sewa.bulk.max-items:500}") int maxItems) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.codeAllocator = codeAllocator;
+        this.eventPublisher = eventPublisher;
+        this.maxItems = maxItems;
+    }
+
+    public BulkActionResponse approve(Kind kind, List<Integer> ids) {
+        return apply(kind, ids, MembershipStatus.ACTIVE);
+    }
+
+    public BulkActionResponse reject(Kind kind, List<Integer> ids) {
+        return apply(kind, ids, MembershipStatus.REJECTED);
+    }
+
+    private BulkActionResponse apply(Kind kind, List<Integer> ids, MembershipStatus target) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Bulk status updates must run inside a transaction");
+        }
+        List<Integer> distinct = ids == null ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(ids.stream().filter(Objects::nonNull).toList()));
+        if (distinct.isEmpty()) {
+            throw new SewaException("At least one id is required");
+        }
+        if (distinct.size() > maxItems) {
+            throw new SewaException("At most " + maxItems + " ids can be processed at once");
+        }
+
+        Map<Integer, Row> rows = lock(kind, distinct);
+        boolean approving = target == MembershipStatus.ACTIVE;
+        String label = kind == Kind.MEMBER ? "Member" : "Student";
+
+        List<Row> changing = new ArrayList<>();
+        int codesNeeded = 0;
+        for (Integer id : distinct) {
+            Row row = rows.get(id);
+            if (row != null && row.status != target) {
+                changing.add(row);
+                if (approving && row.code == null) {
+                    codesNeeded++;
+                }
+            }
+        }
+        List<String> codes = codeAllocator.allocate(kind, codesNeeded);
+
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rowUpdates = new ArrayList<>(changing.size());
+        List<Object[]> userUpdates = new ArrayList<>();
+        int nextCode = 0;
+        for (Row row : changing) {
+            if (approving && row.code == null) {
+                row.code = codes.get(nextCode++);
+            }
+            rowUpdates.add(new Object[] { target.name(), row.code, timestamp, row.id });
+            if (approving && row.userId != null) {
+                userUpdates.add(new Object[] { timestamp, row.userId });
+            }
+        }
+        if (!rowUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE " + kind.table() + " SET "
+                    + statusColumn(kind) + " = ?, membership_code = ?, updated_at = ? WHERE " + idColumn(kind)
+                    + " = ?", rowUpdates);
+        }
+        if (!userUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE users SET is_active = TRUE, updated_at = ? WHERE user_id = ?",
+                    userUpdates);
+        }
+        publishEvents(kind, changing, approving);
+
+        List<Item> results = new ArrayList<>(distinct.size());
+        int succeeded = 0;
+        int skipped = 0;
+        for (Integer id : distinct) {
+            Row row = rows.get(id);
+            Item.ItemBuilder item = Item.builder().id(id);
+            if (row == null) {
+                item.outcome(Outcome.NOT_FOUND).message(label + " not found");
+            } else if (row.status == target) {
+                skipped++;
+                item.outcome(Outcome.SKIPPED).membershipCode(row.code)
+                        .message(label + " is already " + target.name().toLowerCase());
+            } else {
+                succeeded++;
+                item.outcome(approving ? Outcome.APPROVED : Outcome.REJECTED).membershipCode(row.code);
+            }
+            results.add(item.build());
+        }
+        log.info("Bulk {} of {} {}s: {} updated, {} skipped, {} not found", approving ? "approval" : "rejection",
+                distinct.size(), label.toLowerCase(), succeeded, skipped, distinct.size() - succeeded - skipped);
+        return BulkActionResponse.builder()
+                .requested(distinct.size())
+                .succeeded(succeeded)
+                .skipped(skipped)
+                .failed(distinct.size() - succeeded - skipped)
+                .results(results)
+                .build();
+    }
+
+    /** Locks the live rows in id order; soft-deleted rows count as not found. */
+    private Map<Integer, Row> lock(Kind kind, List<Integer> ids) {
+        Map<Integer, Row> rows = new HashMap<>();
+        namedJdbcTemplate.query("SELECT " + idColumn(kind) + ", " + statusColumn(kind)
+                + ", membership_code, user_id, chapter_id FROM " + kind.table() + " WHERE " + idColumn(kind)
+                + " IN (:ids) AND (is_deleted IS NULL OR is_deleted = FALSE) ORDER BY " + idColumn(kind)
+                + " FOR UPDATE", Map.of("ids", ids), rs -> {
+                    String status = rs.getString(2);
+                    Row row = new Row(rs.getInt(1), status != null ? MembershipStatus.valueOf(status) : null,
+                            rs.getString(3), rs.getObject(4, Integer.class), rs.getObject(5, Integer.class));
+                    rows.put(row.id, row);
+                });
+        return rows;
+    }
+
+    private void publishEvents(Kind kind, List<Row> changed, boolean approving) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new EntityChangedEvent(kind == Kind.MEMBER ? new Member() : new Student(),
+                EntityChangedEvent.ChangeType.UPDATED));
+        if (!approving) {
+            return;
+        }
+        List<Integer> userIds = changed.stream().map(row -> row.userId).filter(Objects::nonNull).toList();
+        if (!userIds.isEmpty()) {
+            namedJdbcTemplate.queryForList("SELECT username FROM users WHERE user_id IN (:ids)",
+                    Map.of("ids", userIds), String.class)
+                    .forEach(username -> eventPublisher.publishEvent(new EntityChangedEvent(
+                            User.builder().username(username).build(), EntityChangedEvent.ChangeType.UPDATED)));
+        }
+        if (kind == Kind.MEMBER) {
+            eventPublisher.publishEvent(new TrendChangedEvent(changed.stream()
+                    .map(row -> TrendChangedEvent.memberApproved(row.chapterId))
+                    .toList()));
+        }
+    }
+
+    private static String idColumn(Kind kind) {
+        return kind == Kind.MEMBER ? "member_id" : "student_id";
+    }
+
+    private static String statusColumn(Kind kind) {
+        return kind == Kind.MEMBER ? "membership_status" : "status";
+    }
+
+    private static final class Row {
+        final int id;
+        final MembershipStatus status;
+        final Integer userId;
+        final Integer chapterId;
+        String code;
+
+        Row(int id, MembershipStatus status, String code, Integer userId, Integer chapterId) {
+            this.id = id;
+            this.status = status;
+            this.code = code;
+            this.userId = userId;
+            this.chapterId = chapterId;
+        }
+    }
+}
@@ -1,24 +1,35 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.service.EntityStreams;
+import com.sewa.dto.response.CalendarEventResponse;
 import com.sewa.entity.SewaCalendar;
 import com.sewa.repository.SewaCalendarRepository;
 import com.sewa.service.CalendarService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class CalendarServiceImpl implements CalendarService {
 
     private final SewaCalendarRepository calendarRepository;
+    private final EntityStreams entityStreams;
 
     @Override
     public List<SewaCalendar> getAllEvents() {
         return calendarRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEvents(Consumer<CalendarEventResponse> sink) {
+        entityStreams.forEach(calendarRepository.streamResponses(), sink);
+    }
+
     @Override
     public List<SewaCalendar> getChapterEvents(Integer chapterId) {
         return calendarRepository.findByChapterId(chapterId);
@@ -31,13 +42,14 @@ public class CalendarServiceImpl implements CalendarService {
     }
 
     @Override
+    @Transactional
     public SewaCalendar createEvent(SewaCalendar event) {
         event.setCreatedAt(java.time.LocalDateTime.now());
         return calendarRepository.save(event);
     }
 
     @Override
-    @org.springframework.transaction.annotation.Transactional
+    @Transactional
     public SewaCalendar updateEvent(Integer id, SewaCalendar event) {
         SewaCalendar existing = getEventById(id);
         existing.setTitle(event.getTitle());
@@ -50,7 +62,7 @@ public class CalendarServiceImpl implements CalendarService {
     }
 
     @Override
-    @org.springframework.transaction.annotation.Transactional
+    @Transactional
     public void deleteEvent(Integer id) {
         SewaCalendar existing = getEventById(id);
         calendarRepository.delete(existing);
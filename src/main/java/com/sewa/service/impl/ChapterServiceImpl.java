@@ -1,5 +1,6 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.event.StatsChangedEvent;
 import com.sewa.dto.request.ChapterRequest;
 import com.sewa.dto.response.ChapterResponse;
 import com.sewa.entity.Chapter;
@@ -7,6 +8,7 @@ import com.sewa.exception.SewaException;
 import com.sewa.repository.ChapterRepository;
 import com.sewa.service.ChapterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ChapterServiceImpl implements ChapterService {
 
     private final ChapterRepository chapterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<ChapterResponse> getAllChapters(org.springframework.data.domain.Pageable pageable) {
@@ -63,6 +66,8 @@ public class ChapterServiceImpl implements ChapterService {
                 .chapterType(chapterRequest.getChapterType())
                 .build();
         Chapter savedChapter = java.util.Objects.requireNonNull(chapterRepository.save(chapter));
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.CHAPTER, null,
+                StatsChangedEvent.bucketOf(savedChapter)));
         return mapToResponse(savedChapter);
     }
 
@@ -74,6 +79,7 @@ public class ChapterServiceImpl implements ChapterService {
         }
         Chapter chapter = chapterRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Chapter not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(chapter);
 
         chapter.setChapterName(chapterRequest.getChapterName());
         chapter.setLocation(chapterRequest.getLocation());
@@ -81,7 +87,10 @@ public class ChapterServiceImpl implements ChapterService {
             chapter.setChapterType(chapterRequest.getChapterType());
         }
 
-        return mapToResponse(chapterRepository.save(chapter));
+        Chapter saved = chapterRepository.save(chapter);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.CHAPTER, before,
+                StatsChangedEvent.bucketOf(saved)));
+        return mapToResponse(saved);
     }
 
     @Override
@@ -113,6 +122,7 @@ public class ChapterServiceImpl implements ChapterService {
         chapterMember.setRoleInChapter(role);
 
         chapterMemberRepository.save(chapterMember);
+        touch(chapter);
     }
 
     @Override
@@ -126,6 +136,7 @@ public class ChapterServiceImpl implements ChapterService {
                 .orElseThrow(() -> new SewaException("Member not found in chapter"));
         chapterMember.setRoleInChapter(role);
         chapterMemberRepository.save(chapterMember);
+        touch(chapterMember.getChapter());
     }
 
     @Override
@@ -139,9 +150,19 @@ public class ChapterServiceImpl implements ChapterService {
                 .orElseThrow(() -> new SewaException("Member not found in chapter"));
         if (chapterMember != null) {
             chapterMemberRepository.delete(chapterMember);
+            touch(chapterMember.getChapter());
         }
     }
 
+    /**
+     * chapter_members has no timestamps, so a roster change marks the chapter
+     * itself modified: its caches are evicted and its conditional-GET version
+     * moves on every instance.
+     */
+    private void touch(Chapter chapter) {
+        chapter.setUpdatedAt(java.time.LocalDateTime.now());
+    }
+
     @Override
     @Transactional
     public void deleteChapter(Integer id) {
@@ -150,8 +171,10 @@ public class ChapterServiceImpl implements ChapterService {
         }
         Chapter chapter = chapterRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new SewaException("Chapter not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(chapter);
         chapter.setIsDeleted(true);
         chapterRepository.save(chapter);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.CHAPTER, before, null));
     }
 
     private final com.sewa.repository.MemberRepository memberRepository;
@@ -0,0 +1,526 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.dto.DashboardReportResponse;
+import com.sewa.common.event.StatsChangedEvent;
+import com.sewa.common.event.StatsChangedEvent.Bucket;
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.repository.ChapterRepository;
+import com.sewa.repository.MemberRepository;
+import com.sewa.repository.StudentRepository;
+import com.sewa.repository.UserRepository;
+import com.sewa.service.DashboardStatsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the admin dashboard aggregates in memory. Service write paths publish
+ * {@link StatsChangedEvent}s that are applied after commit, so reads never
+ * touch the database; a periodic reconciliation recomputes everything and
+ * reports (and repairs) any drift, e.g. from writes that bypass the services.
+ * The reload fans out one read-only transaction per section on a small pool.
+ * <p>
+ * A reload cannot tell whether a delta committed while it was querying is
+ * already in its numbers, so such a reload is retried; after
+ * {@value #MAX_RECONCILE_ATTEMPTS} contended attempts its result is taken as is
+ * and any resulting error is left to the next reconciliation.
+ */
+@Service
+@Slf4j
+public class DashboardStatsServiceImpl implements DashboardStatsService, MetricsSource {
+
+    private static final String USERS = "users";
+    private static final String CHAPTERS = "chapters";
+    private static final String MEMBERS = "members";
+    private static final String STUDENTS = "students";
+    private static final List<String> SECTIONS = List.of(USERS, CHAPTERS, MEMBERS, STUDENTS);
+    static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final MemberRepository memberRepository;
+    private final StudentRepository studentRepository;
+    private final ChapterRepository chapterRepository;
+    private final TableStatistics tableStatistics;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long queryTimeoutMs;
+    private final Map<String, Consumer<Aggregates>> sectionLoaders = new LinkedHashMap<>();
+
+    private final Object lock = new Object();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /** Guarded by {@code lock} */
+    private Aggregates aggregates;
+    private long version;
+    /** Deltas received, applied or not; guarded by {@code lock} */
+    private long changes;
+
+    private volatile Snapshot snapshot;
+    private volatile long lastDrift;
+    private volatile long reconciliations;
+    private volatile long skippedReconciliations;
+    private volatile long forcedReconciliations;
+    private volatile long deltasBeforeLoad;
+    private volatile long lastLoadMillis;
+    private volatile List<String> lastUnavailable = List.of();
+
+    /**
+     * @param parallelism    concurrent section queries; keep it below the Hikari
+     *                       pool size so requests are never starved of connections
+     * @param queryTimeoutMs per-section limit, applied to the transaction and the wait
+     */
+    public DashboardStatsServiceImpl(UserRepository userRepository, MemberRepository memberRepository,
+            StudentRepository studentRepository, ChapterRepository chapterRepository,
+            TableStatistics tableStatistics, PlatformTransactionManager transactionManager,
+            @Value("${sewa.dashboard.parallelism:3}") int parallelism,
+            @Value("${sewa.dashboard.query-timeout-ms:15000}") long queryTimeoutMs) {
+        this.userRepository = userRepository;
+        this.memberRepository = memberRepository;
+        this.studentRepository = studentRepository;
+        this.chapterRepository = chapterRepository;
+        this.tableStatistics = tableStatistics;
+        this.queryTimeoutMs = queryTimeoutMs;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(1, (queryTimeoutMs + 999) / 1000));
+
+        int threads = Math.max(1, parallelism);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SECTIONS.size() * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-stats-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Overlapping reloads degrade to running on the caller rather than failing
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        sectionLoaders.put(USERS, partial -> readOnly(() -> partial.users = userRepository.count()));
+        sectionLoaders.put(CHAPTERS, partial -> readOnly(() -> partial.chapters = chapterRepository.countActiveChapters()));
+        sectionLoaders.put(MEMBERS, this::loadMembers);
+        sectionLoaders.put(STUDENTS, this::loadStudents);
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reconcile();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${sewa.dashboard.reconcile-interval-ms:600000}", fixedDelayString = "${sewa.dashboard.reconcile-interval-ms:600000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @Override
+    public long reconcile() {
+        for (int attempt = 1; ; attempt++) {
+            long startChanges;
+            synchronized (lock) {
+                startChanges = changes;
+            }
+            Aggregates fresh = loadFromDatabase();
+            synchronized (lock) {
+                if (changes != startChanges) {
+                    // A delta arrived while querying; the fresh numbers may or may not include it
+                    if (attempt < MAX_RECONCILE_ATTEMPTS) {
+                        skippedReconciliations++;
+                        log.debug("Dashboard stats changed during the reload, retrying");
+                        continue;
+                    }
+                    forcedReconciliations++;
+                    log.info("Dashboard stats kept changing during {} reloads; using the last one", attempt);
+                }
+                return replaceWith(fresh);
+            }
+        }
+    }
+
+    /** Must hold {@code lock}. */
+    private long replaceWith(Aggregates fresh) {
+        boolean availabilityChanged = false;
+        if (aggregates != null) {
+            // Keep serving the maintained numbers for sections that could not be reloaded
+            for (String section : List.copyOf(fresh.unavailable)) {
+                if (!aggregates.unavailable.contains(section)) {
+                    fresh.copySection(section, aggregates);
+                }
+            }
+            availabilityChanged = !aggregates.unavailable.equals(fresh.unavailable);
+        }
+        long drift = aggregates == null ? 0 : aggregates.distanceTo(fresh);
+        reconciliations++;
+        lastDrift = drift;
+        if (aggregates == null || drift > 0 || availabilityChanged) {
+            if (drift > 0) {
+                log.warn("Dashboard stats drifted by {} from the database; repaired", drift);
+            }
+            aggregates = fresh;
+            publish();
+        }
+        return drift;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(StatsChangedEvent event) {
+        if (java.util.Objects.equals(event.before(), event.after())) {
+            return;
+        }
+        synchronized (lock) {
+            changes++;
+            if (aggregates == null) {
+                // Not loaded yet: a load in progress retries, and any later one already sees the change
+                deltasBeforeLoad++;
+                return;
+            }
+            aggregates.apply(event);
+            publish();
+        }
+    }
+
+    private void publish() {
+        version++;
+        snapshot = new Snapshot(aggregates.toReport(), "stats-" + epoch + "-" + version);
+    }
+
+    /**
+     * Loads every section concurrently, each in its own read-only transaction,
+     * so the total latency is roughly that of the slowest query rather than the
+     * sum. A section that fails or exceeds {@code sewa.dashboard.query-timeout-ms}
+     * is reported as unavailable instead of failing the whole load.
+     */
+    private Aggregates loadFromDatabase() {
+        long started = System.nanoTime();
+        Map<String, CompletableFuture<Aggregates>> futures = new LinkedHashMap<>();
+        sectionLoaders.forEach((section, loader) -> futures.put(section,
+                CompletableFuture.supplyAsync(() -> {
+                    Aggregates partial = new Aggregates();
+                    loader.accept(partial);
+                    return partial;
+                }, executor).orTimeout(queryTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        Aggregates fresh = new Aggregates();
+        futures.forEach((section, future) -> {
+            try {
+                fresh.copySection(section, future.join());
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    log.warn("Dashboard section '{}' timed out after {} ms", section, queryTimeoutMs);
+                } else {
+                    log.warn("Dashboard section '{}' failed to load: {}", section, cause.getMessage());
+                }
+                fresh.unavailable.add(section);
+            }
+        });
+        lastLoadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        lastUnavailable = List.copyOf(fresh.unavailable);
+        return fresh;
+    }
+
+    private void loadMembers(Aggregates partial) {
+        if (tableStatistics.isPostgres()) {
+            try {
+                readOnly(() -> loadMemberGroupingSets(partial));
+                return;
+            } catch (DataAccessException e) {
+                if (e instanceof QueryTimeoutException) {
+                    throw e;
+                }
+                log.warn("GROUPING SETS aggregation failed for members, using per-grouping queries: {}", e.getMessage());
+                partial.clearSection(MEMBERS);
+            }
+        }
+        // Portable fallback: one query per grouping
+        readOnly(() -> {
+            partial.members = memberRepository.countActiveMembers();
+            partial.membersByChapter = grouped(memberRepository.countMembersByChapter());
+            partial.membersByEducationalLevel = grouped(memberRepository.countMembersByEducationalLevel());
+            partial.membersByWorkingSector = grouped(memberRepository.countMembersByWorkingSector());
+        });
+    }
+
+    private void loadStudents(Aggregates partial) {
+        if (tableStatistics.isPostgres()) {
+            try {
+                readOnly(() -> loadStudentGroupingSets(partial));
+                return;
+            } catch (DataAccessException e) {
+                if (e instanceof QueryTimeoutException) {
+                    throw e;
+                }
+                log.warn("GROUPING SETS aggregation failed for students, using per-grouping queries: {}", e.getMessage());
+                partial.clearSection(STUDENTS);
+            }
+        }
+        readOnly(() -> {
+            partial.students = studentRepository.countActiveStudents();
+            partial.studentsByChapter = grouped(studentRepository.countStudentsByChapter());
+            partial.studentsByEducationalLevel = grouped(studentRepository.countStudentsByEducationalLevel());
+        });
+    }
+
+    /** One scan per table; each result row belongs to exactly one grouping set. */
+    private void loadMemberGroupingSets(Aggregates partial) {
+        for (Object[] row : memberRepository.aggregateMemberGroupings()) {
+            long count = ((Number) row[6]).longValue();
+            if (isGrouped(row[0])) {
+                putIfNamed(partial.membersByChapter, row[3], count);
+            } else if (isGrouped(row[1])) {
+                putIfNamed(partial.membersByEducationalLevel, row[4], count);
+            } else if (isGrouped(row[2])) {
+                putIfNamed(partial.membersByWorkingSector, row[5], count);
+            } else {
+                partial.members = count;
+            }
+        }
+    }
+
+    private void loadStudentGroupingSets(Aggregates partial) {
+        for (Object[] row : studentRepository.aggregateStudentGroupings()) {
+            long count = ((Number) row[4]).longValue();
+            if (isGrouped(row[0])) {
+                putIfNamed(partial.studentsByChapter, row[2], count);
+            } else if (isGrouped(row[1])) {
+                putIfNamed(partial.studentsByEducationalLevel, row[3], count);
+            } else {
+                partial.students = count;
+            }
+        }
+    }
+
+    /** A failed statement aborts a PostgreSQL transaction, so a fallback always gets a fresh one. */
+    private void readOnly(Runnable work) {
+        readOnlyTransaction.executeWithoutResult(status -> work.run());
+    }
+
+    private static boolean isGrouped(Object groupingFlag) {
+        return ((Number) groupingFlag).intValue() == 0;
+    }
+
+    private static void putIfNamed(Map<String, Long> map, Object name, long count) {
+        if (name != null) {
+            map.merge(name.toString(), count, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> grouped(List<Object[]> results) {
+        Map<String, Long> map = new HashMap<>();
+        for (Object[] row : results) {
+            if (row[0] != null) {
+                map.merge(row[0].toString(), ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "dashboardStats";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        Snapshot current = snapshot;
+        metrics.put("etag", current != null ? current.etag() : null);
+        metrics.put("reconciliations", reconciliations);
+        metrics.put("skippedReconciliations", skippedReconciliations);
+        metrics.put("forcedReconciliations", forcedReconciliations);
+        metrics.put("deltasBeforeLoad", deltasBeforeLoad);
+        metrics.put("lastDrift", lastDrift);
+        metrics.put("lastLoadMillis", lastLoadMillis);
+        metrics.put("lastUnavailableSections", lastUnavailable);
+        metrics.put("parallelism", executor.getMaximumPoolSize());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Mutable aggregates; the published instance is only touched under {@code lock}. */
+    private static final class Aggregates {
+        long users;
+        long members;
+        long students;
+        long chapters;
+        Map<String, Long> membersByChapter = new HashMap<>();
+        Map<String, Long> studentsByChapter = new HashMap<>();
+        Map<String, Long> membersByEducationalLevel = new HashMap<>();
+        Map<String, Long> membersByWorkingSector = new HashMap<>();
+        Map<String, Long> studentsByEducationalLevel = new HashMap<>();
+        /** Sections whose numbers could not be loaded */
+        Set<String> unavailable = new TreeSet<>();
+
+        void clearSection(String section) {
+            copySection(section, new Aggregates());
+        }
+
+        void copySection(String section, Aggregates from) {
+            switch (section) {
+                case USERS -> users = from.users;
+                case CHAPTERS -> chapters = from.chapters;
+                case MEMBERS -> {
+                    members = from.members;
+                    membersByChapter = new HashMap<>(from.membersByChapter);
+                    membersByEducationalLevel = new HashMap<>(from.membersByEducationalLevel);
+                    membersByWorkingSector = new HashMap<>(from.membersByWorkingSector);
+                }
+                case STUDENTS -> {
+                    students = from.students;
+                    studentsByChapter = new HashMap<>(from.studentsByChapter);
+                    studentsByEducationalLevel = new HashMap<>(from.studentsByEducationalLevel);
+                }
+                default -> throw new IllegalArgumentException("Unknown dashboard section: " + section);
+            }
+            if (from.unavailable.contains(section)) {
+                unavailable.add(section);
+            } else {
+                unavailable.remove(section);
+            }
+        }
+
+        void apply(StatsChangedEvent event) {
+            Bucket before = event.before();
+            Bucket after = event.after();
+            long delta = (after != null ? 1 : 0) - (before != null ? 1 : 0);
+            switch (event.subject()) {
+                case USER -> users += delta;
+                case MEMBER -> {
+                    members += delta;
+                    if (before != null) {
+                        add(membersByChapter, before.chapter(), -1);
+                        add(membersByEducationalLevel, before.educationalLevel(), -1);
+                        add(membersByWorkingSector, before.workingSector(), -1);
+                    }
+                    if (after != null) {
+                        add(membersByChapter, after.chapter(), 1);
+                        add(membersByEducationalLevel, after.educationalLevel(), 1);
+                        add(membersByWorkingSector, after.workingSector(), 1);
+                    }
+                }
+                case STUDENT -> {
+                    students += delta;
+                    if (before != null) {
+                        add(studentsByChapter, before.chapter(), -1);
+                        add(studentsByEducationalLevel, before.educationalLevel(), -1);
+                    }
+                    if (after != null) {
+                        add(studentsByChapter, after.chapter(), 1);
+                        add(studentsByEducationalLevel, after.educationalLevel(), 1);
+                    }
+                }
+                case CHAPTER -> {
+                    chapters += delta;
+                    if (before != null && after != null && before.chapter() != null
+                            && !before.chapter().equals(after.chapter())) {
+                        // Rename: per-chapter counts are keyed by name
+                        rename(membersByChapter, before.chapter(), after.chapter());
+                        rename(studentsByChapter, before.chapter(), after.chapter());
+                    }
+                }
+            }
+        }
+
+        private static void add(Map<String, Long> map, String key, long delta) {
+            if (key != null) {
+                map.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        private static void rename(Map<String, Long> map, String from, String to) {
+            Long count = map.remove(from);
+            if (count != null && to != null) {
+                map.merge(to, count, Long::sum);
+            }
+        }
+
+        /** Drift over the sections both sides actually loaded. */
+        long distanceTo(Aggregates other) {
+            long total = 0;
+            for (String section : SECTIONS) {
+                if (unavailable.contains(section) || other.unavailable.contains(section)) {
+                    continue;
+                }
+                total += switch (section) {
+                    case USERS -> Math.abs(users - other.users);
+                    case CHAPTERS -> Math.abs(chapters - other.chapters);
+                    case MEMBERS -> Math.abs(members - other.members)
+                            + distance(membersByChapter, other.membersByChapter)
+                            + distance(membersByEducationalLevel, other.membersByEducationalLevel)
+                            + distance(membersByWorkingSector, other.membersByWorkingSector);
+                    case STUDENTS -> Math.abs(students - other.students)
+                            + distance(studentsByChapter, other.studentsByChapter)
+                            + distance(studentsByEducationalLevel, other.studentsByEducationalLevel);
+                    default -> 0;
+                };
+            }
+            return total;
+        }
+
+        private static long distance(Map<String, Long> a, Map<String, Long> b) {
+            Set<String> keys = new HashSet<>(a.keySet());
+            keys.addAll(b.keySet());
+            long total = 0;
+            for (String key : keys) {
+                total += Math.abs(a.getOrDefault(key, 0L) - b.getOrDefault(key, 0L));
+            }
+            return total;
+        }
+
+        DashboardReportResponse toReport() {
+            return DashboardReportResponse.builder()
+                    .totalUsers(users)
+                    .totalMembers(members)
+                    .totalStudents(students)
+                    .totalChapters(chapters)
+                    .membersByChapter(Map.copyOf(membersByChapter))
+                    .studentsByChapter(Map.copyOf(studentsByChapter))
+                    .membersByEducationalLevel(Map.copyOf(membersByEducationalLevel))
+                    .membersByWorkingSector(Map.copyOf(membersByWorkingSector))
+                    .studentsByEducationalLevel(Map.copyOf(studentsByEducationalLevel))
+                    .unavailableSections(unavailable.isEmpty() ? null : List.copyOf(unavailable))
+                    .build();
+        }
+    }
+}
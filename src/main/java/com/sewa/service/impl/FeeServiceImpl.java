@@ -1,5 +1,10 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.dto.CursorPageDto;
+import com.sewa.common.event.TrendChangedEvent;
+import com.sewa.common.service.PageCounter;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.common.util.KeysetCursor;
 import com.sewa.dto.request.FeeRequest;
 import com.sewa.dto.response.FeeResponse;
 import com.sewa.entity.Member;
@@ -9,13 +14,17 @@ import com.sewa.repository.MemberRepository;
 import com.sewa.repository.MembershipFeeRepository;
 import com.sewa.service.FeeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -23,30 +32,37 @@ public class FeeServiceImpl implements FeeService {
 
     private final MembershipFeeRepository feeRepository;
     private final MemberRepository memberRepository;
+    private final TableStatistics tableStatistics;
+    private final PageCounter pageCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Fees are keyset-paginated by id only */
+    private static final Map<String, Function<String, Object>> CURSOR_SORT_FIELDS = Map.of(
+            KeysetCursor.ID, Integer::valueOf);
 
     @Override
     public List<FeeResponse> getFeesByMember(Integer memberId) {
-        return feeRepository.findByMemberId(memberId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return feeRepository.findResponsesByMemberId(memberId);
     }
 
     @Override
     public List<FeeResponse> getFeesByMemberCode(String code) {
-        return feeRepository.findByMemberMembershipCode(code).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return feeRepository.findResponsesByMemberMembershipCode(code);
     }
 
     @Override
-    public Page<FeeResponse> getAllFees(Pageable pageable) {
-        return feeRepository.findAll(pageable).map(this::mapToResponse);
+    public Page<FeeResponse> getAllFees(Pageable pageable, String countStrategy) {
+        return pageCounter.page("fees", "membership_fees", null, countStrategy, pageable,
+                () -> feeRepository.findAllResponses(pageable), feeRepository::count);
     }
 
     @Override
     public Page<FeeResponse> searchFees(String query, com.sewa.entity.enums.PaymentStatus status, String year,
-            Pageable pageable) {
-        return feeRepository.searchFees(query, status, year, pageable).map(this::mapToResponse);
+            Pageable pageable, String countStrategy) {
+        return pageCounter.page("fees", "membership_fees", query + "|" + status + "|" + year, countStrategy,
+                pageable,
+                () -> feeRepository.searchFeeResponses(query, status, year, pageable),
+                () -> feeRepository.countSearchFees(query, status, year));
     }
 
     @Override
@@ -87,6 +103,7 @@ public class FeeServiceImpl implements FeeService {
                 .build();
 
         MembershipFee savedFee = java.util.Objects.requireNonNull(feeRepository.save(fee));
+        eventPublisher.publishEvent(TrendChangedEvent.of(TrendChangedEvent.feeCollected(savedFee, 1)));
         return mapToResponse(savedFee);
     }
 
@@ -97,6 +114,7 @@ public class FeeServiceImpl implements FeeService {
             throw new IllegalArgumentException("ID cannot be null");
         MembershipFee fee = feeRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Fee record not found"));
+        TrendChangedEvent.Delta before = TrendChangedEvent.feeCollected(fee, -1);
 
         if (feeRequest.getAmount() != null)
             fee.setAmount(feeRequest.getAmount());
@@ -111,7 +129,9 @@ public class FeeServiceImpl implements FeeService {
         if (feeRequest.getRemarks() != null)
             fee.setRemarks(feeRequest.getRemarks());
 
-        return mapToResponse(feeRepository.save(fee));
+        MembershipFee saved = feeRepository.save(fee);
+        eventPublisher.publishEvent(TrendChangedEvent.of(before, TrendChangedEvent.feeCollected(saved, 1)));
+        return mapToResponse(saved);
     }
 
     @Override
@@ -119,10 +139,33 @@ public class FeeServiceImpl implements FeeService {
     public void deleteFee(Integer id) {
         if (id == null)
             throw new IllegalArgumentException("ID cannot be null");
-        if (!feeRepository.existsById(id)) {
-            throw new SewaException("Fee record not found");
+        MembershipFee fee = feeRepository.findById(id)
+                .orElseThrow(() -> new SewaException("Fee record not found"));
+        eventPublisher.publishEvent(TrendChangedEvent.of(TrendChangedEvent.feeCollected(fee, -1)));
+        feeRepository.delete(fee);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<FeeResponse> scrollFees(com.sewa.entity.enums.PaymentStatus status, String year,
+            String cursor, int size, String direction, boolean estimateTotal) {
+        KeysetCursor.Request request = KeysetCursor.resolve(cursor, KeysetCursor.ID, direction, CURSOR_SORT_FIELDS);
+
+        Specification<MembershipFee> spec = (root, cq, cb) -> cb.or(cb.isFalse(root.get("isDeleted")),
+                cb.isNull(root.get("isDeleted")));
+        if (status != null) {
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("paymentStatus"), status));
         }
-        feeRepository.deleteById(id);
+        if (year != null && !year.isBlank()) {
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("financialYear"), year));
+        }
+
+        // Fetch graph hint; scroll may not apply it, so mapping stays in this transaction (batch-fetched)
+        Window<MembershipFee> window = feeRepository.findBy(spec,
+                q -> q.sortBy(request.sort()).limit(size).project("member").scroll(request.position()));
+        boolean unfiltered = status == null && (year == null || year.isBlank());
+        return CursorPageDto.from(window, this::mapToResponse, request.sort(), size,
+                estimateTotal && unfiltered ? tableStatistics.estimatedRowCount("membership_fees") : null);
     }
 
     private FeeResponse mapToResponse(MembershipFee fee) {
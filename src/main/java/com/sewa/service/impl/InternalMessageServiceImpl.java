@@ -1,5 +1,6 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.service.EntityStreams;
 import com.sewa.dto.request.MessageRequest;
 import com.sewa.dto.response.MessageResponse;
 import com.sewa.entity.InternalMessage;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +23,7 @@ public class InternalMessageServiceImpl implements InternalMessageService {
 
     private final InternalMessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final EntityStreams entityStreams;
 
     @Override
     public List<MessageResponse> getAllMessages() {
@@ -29,6 +32,12 @@ public class InternalMessageServiceImpl implements InternalMessageService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllMessages(Consumer<MessageResponse> sink) {
+        entityStreams.forEach(messageRepository.streamResponses(), sink);
+    }
+
     @Override
     @Transactional
     public MessageResponse sendMessage(String senderUsername, MessageRequest messageRequest) {
@@ -0,0 +1,231 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.common.metrics.MetricsSource;
+import com.sewa.entity.EducationalLevelMaster;
+import com.sewa.entity.GenderMaster;
+import com.sewa.entity.WorkingSectorMaster;
+import com.sewa.exception.SewaException;
+import com.sewa.repository.EducationalLevelRepository;
+import com.sewa.repository.GenderRepository;
+import com.sewa.repository.WorkingSectorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory name/id index of the educational level, working sector and
+ * gender masters. Profile updates resolve the submitted names here and attach
+ * {@code getReferenceById} proxies, so setting an association costs no query;
+ * {@link #nameOf} reads a name back without initializing such a proxy. The
+ * index is loaded on startup, reloaded after a master row changes here and
+ * every {@code sewa.masters.reload-interval-ms}, so a rename or removal on
+ * another instance is picked up within that interval; a name it does not
+ * know (e.g. just added elsewhere) falls back to the repository once and is
+ * then remembered.
+ */
+@Component
+@Slf4j
+public class MasterDataIndex implements MetricsSource {
+
+    private final Table<EducationalLevelMaster> educationalLevels;
+    private final Table<WorkingSectorMaster> workingSectors;
+    private final Table<GenderMaster> genders;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    public MasterDataIndex(EducationalLevelRepository educationalLevelRepository,
+            WorkingSectorRepository workingSectorRepository, GenderRepository genderRepository) {
+        this.educationalLevels = new Table<>("Educational Level", educationalLevelRepository,
+                educationalLevelRepository::findByName, EducationalLevelMaster::getId,
+                EducationalLevelMaster::getName);
+        this.workingSectors = new Table<>("Working Sector", workingSectorRepository,
+                workingSectorRepository::findByName, WorkingSectorMaster::getId, WorkingSectorMaster::getName);
+        this.genders = new Table<>("Gender", genderRepository, genderRepository::findByName, GenderMaster::getId,
+                GenderMaster::getName);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload(educationalLevels);
+        reload(workingSectors);
+        reload(genders);
+    }
+
+    @Scheduled(initialDelayString = "${sewa.masters.reload-interval-ms:300000}",
+            fixedDelayString = "${sewa.masters.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            initialize();
+        } catch (DataAccessException e) {
+            // Keep serving the last snapshot
+            log.warn("Could not reload the master data index: {}", e.getMessage());
+        }
+    }
+
+    public EducationalLevelMaster educationalLevel(String name) {
+        return reference(educationalLevels, name);
+    }
+
+    public WorkingSectorMaster workingSector(String name) {
+        return reference(workingSectors, name);
+    }
+
+    public GenderMaster gender(String name) {
+        return reference(genders, name);
+    }
+
+    public String nameOf(EducationalLevelMaster master) {
+        return nameOf(educationalLevels, master);
+    }
+
+    public String nameOf(WorkingSectorMaster master) {
+        return nameOf(workingSectors, master);
+    }
+
+    public String nameOf(GenderMaster master) {
+        return nameOf(genders, master);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.isOf(EducationalLevelMaster.class)) {
+            reload(educationalLevels);
+        } else if (event.isOf(WorkingSectorMaster.class)) {
+            reload(workingSectors);
+        } else if (event.isOf(GenderMaster.class)) {
+            reload(genders);
+        }
+    }
+
+    private <T> T reference(Table<T> table, String name) {
+        Integer id = table.snapshot().idsByName().get(name);
+        if (id != null) {
+            hits.incrementAndGet();
+            return table.repository().getReferenceById(id);
+        }
+        fallbacks.incrementAndGet();
+        T master = table.finder().apply(name)
+                .orElseThrow(() -> new SewaException(table.label() + " not found: " + name));
+        table.remember(master);
+        return master;
+    }
+
+    private <T> String nameOf(Table<T> table, T master) {
+        if (master == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(master)) {
+            return table.name().apply(master);
+        }
+        Object id = ((HibernateProxy) master).getHibernateLazyInitializer().getIdentifier();
+        String name = table.snapshot().namesById().get(id);
+        // Unknown id: let the proxy load itself
+        return name != null ? name : table.name().apply(master);
+    }
+
+    private <T> void reload(Table<T> table) {
+        table.load();
+        reloads.incrementAndGet();
+        log.debug("{} index loaded: {} entries", table.label(), table.snapshot().idsByName().size());
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "masterDataIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("educationalLevels", educationalLevels.snapshot().idsByName().size());
+        metrics.put("workingSectors", workingSectors.snapshot().idsByName().size());
+        metrics.put("genders", genders.snapshot().idsByName().size());
+        metrics.put("hits", hits.get());
+        metrics.put("repositoryFallbacks", fallbacks.get());
+        metrics.put("reloads", reloads.get());
+        return metrics;
+    }
+
+    private record Snapshot(Map<String, Integer> idsByName, Map<Integer, String> namesById) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+
+    /** One master table; the snapshot is replaced wholesale, never mutated. */
+    private static final class Table<T> {
+        private final String label;
+        private final JpaRepository<T, Integer> repository;
+        private final Function<String, Optional<T>> finder;
+        private final Function<T, Integer> id;
+        private final Function<T, String> name;
+        private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+        Table(String label, JpaRepository<T, Integer> repository, Function<String, Optional<T>> finder,
+                Function<T, Integer> id, Function<T, String> name) {
+            this.label = label;
+            this.repository = repository;
+            this.finder = finder;
+            this.id = id;
+            this.name = name;
+        }
+
+        String label() {
+            return label;
+        }
+
+        JpaRepository<T, Integer> repository() {
+            return repository;
+        }
+
+        Function<String, Optional<T>> finder() {
+            return finder;
+        }
+
+        Function<T, String> name() {
+            return name;
+        }
+
+        Snapshot snapshot() {
+            return snapshot;
+        }
+
+        synchronized void load() {
+            List<T> all = repository.findAll();
+            Map<String, Integer> idsByName = new HashMap<>();
+            Map<Integer, String> namesById = new HashMap<>();
+            for (T master : all) {
+                if (name.apply(master) == null) {
+                    continue;
+                }
+                idsByName.put(name.apply(master), id.apply(master));
+                namesById.put(id.apply(master), name.apply(master));
+            }
+            snapshot = new Snapshot(Map.copyOf(idsByName), Map.copyOf(namesById));
+        }
+
+        synchronized void remember(T master) {
+            Map<String, Integer> idsByName = new HashMap<>(snapshot.idsByName());
+            Map<Integer, String> namesById = new HashMap<>(snapshot.namesById());
+            idsByName.put(name.apply(master), id.apply(master));
+            namesById.put(id.apply(master), name.apply(master));
+            snapshot = new Snapshot(Map.copyOf(idsByName), Map.copyOf(namesById));
+        }
+    }
+}
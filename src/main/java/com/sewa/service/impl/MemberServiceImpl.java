@@ -1,5 +1,14 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.dto.CursorPageDto;
+import com.sewa.common.event.StatsChangedEvent;
+import com.sewa.common.event.TrendChangedEvent;
+import com.sewa.common.service.MembershipCodeAllocator;
+import com.sewa.common.service.PageCounter;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.common.util.KeysetCursor;
+import com.sewa.config.SearchIndexInitializer;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.MemberResponse;
 import com.sewa.entity.Member;
 import com.sewa.entity.User;
@@ -7,32 +16,47 @@ import com.sewa.entity.enums.MembershipStatus;
 import com.sewa.exception.SewaException;
 import com.sewa.repository.MemberRepository;
 import com.sewa.repository.UserRepository;
-import com.sewa.repository.EducationalLevelRepository;
-import com.sewa.repository.WorkingSectorRepository;
-import com.sewa.repository.GenderRepository;
 import com.sewa.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final UserRepository userRepository;
-    private final EducationalLevelRepository educationalLevelRepository;
-    private final WorkingSectorRepository workingSectorRepository;
-    private final GenderRepository genderRepository;
+    private final MasterDataIndex masterDataIndex;
+    private final SearchIndexInitializer searchIndexInitializer;
+    private final TableStatistics tableStatistics;
+    private final PageCounter pageCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MembershipCodeAllocator codeAllocator;
+    private final BulkMembershipUpdater bulkUpdater;
+
+    /** Sort fields allowed for keyset pagination (must be non-null columns) */
+    private static final Map<String, Function<String, Object>> CURSOR_SORT_FIELDS = Map.of(
+            KeysetCursor.ID, Integer::valueOf,
+            "fullName", value -> value);
 
     @Override
     public Page<MemberResponse> getAllMembers(org.springframework.data.domain.Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return memberRepository.findAll(pageable).map(this::mapToResponse);
+        return memberRepository.findAllResponses(pageable);
     }
 
     @Override
@@ -40,7 +64,7 @@ public class MemberServiceImpl implements MemberService {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return memberRepository.findByMembershipStatus(MembershipStatus.PENDING, pageable).map(this::mapToResponse);
+        return memberRepository.findResponsesByMembershipStatus(MembershipStatus.PENDING, pageable);
     }
 
     @Override
@@ -94,13 +118,10 @@ public class MemberServiceImpl implements MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new SewaException("Member not found"));
         if (member.getMembershipCode() == null) {
-            Long lastId = memberRepository.getLastMemberId();
-            String code;
-            long nextNum = (lastId != null ? lastId : 0) + 1;
-            do {
-                code = String.format("SEWAM%03d", nextNum++);
-            } while (memberRepository.findByMembershipCode(code).isPresent());
-            member.setMembershipCode(code);
+            member.setMembershipCode(codeAllocator.allocate(MembershipCodeAllocator.Kind.MEMBER));
+        }
+        if (member.getMembershipStatus() != MembershipStatus.ACTIVE) {
+            eventPublisher.publishEvent(TrendChangedEvent.of(TrendChangedEvent.memberApproved(member)));
         }
         member.setMembershipStatus(MembershipStatus.ACTIVE);
         User user = member.getUser();
@@ -123,6 +144,18 @@ public class MemberServiceImpl implements MemberService {
         return mapToResponse(memberRepository.save(member));
     }
 
+    @Override
+    @Transactional
+    public BulkActionResponse approveMembers(List<Integer> memberIds) {
+        return bulkUpdater.approve(MembershipCodeAllocator.Kind.MEMBER, memberIds);
+    }
+
+    @Override
+    @Transactional
+    public BulkActionResponse rejectMembers(List<Integer> memberIds) {
+        return bulkUpdater.reject(MembershipCodeAllocator.Kind.MEMBER, memberIds);
+    }
+
     @Override
     @Transactional
     public MemberResponse updateMember(Integer id, MemberResponse request) {
@@ -131,6 +164,7 @@ public class MemberServiceImpl implements MemberService {
         }
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Member not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(member);
 
         if (request.getFullName() != null)
             member.setFullName(request.getFullName());
@@ -141,21 +175,23 @@ public class MemberServiceImpl implements MemberService {
         member.setCollege(request.getCollege());
         member.setUniversity(request.getUniversity());
         member.setGraduationYear(request.getGraduationYear());
-        if (request.getEducationalLevel() != null) {
-            member.setEducationalLevel(educationalLevelRepository.findByName(request.getEducationalLevel())
-                    .orElseThrow(
-                            () -> new SewaException("Educational Level not found: " + request.getEducationalLevel())));
+        if (request.getEducationalLevel() != null
+                && !request.getEducationalLevel().equals(masterDataIndex.nameOf(member.getEducationalLevel()))) {
+            member.setEducationalLevel(masterDataIndex.educationalLevel(request.getEducationalLevel()));
         }
-        if (request.getWorkingSector() != null) {
-            member.setWorkingSector(workingSectorRepository.findByName(request.getWorkingSector())
-                    .orElseThrow(() -> new SewaException("Working Sector not found: " + request.getWorkingSector())));
+        if (request.getWorkingSector() != null
+                && !request.getWorkingSector().equals(masterDataIndex.nameOf(member.getWorkingSector()))) {
+            member.setWorkingSector(masterDataIndex.workingSector(request.getWorkingSector()));
         }
-        if (request.getGender() != null) {
-            member.setGender(genderRepository.findByName(request.getGender())
-                    .orElseThrow(() -> new SewaException("Gender not found: " + request.getGender())));
+        if (request.getGender() != null && !request.getGender().equals(masterDataIndex.nameOf(member.getGender()))) {
+            member.setGender(masterDataIndex.gender(request.getGender()));
         }
 
-        return mapToResponse(memberRepository.save(member));
+        Member saved = memberRepository.save(member);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.MEMBER, before,
+                StatsChangedEvent.bucketOf(saved, masterDataIndex.nameOf(saved.getEducationalLevel()),
+                        masterDataIndex.nameOf(saved.getWorkingSector()))));
+        return mapToResponse(saved);
     }
 
     @Override
@@ -166,7 +202,11 @@ public class MemberServiceImpl implements MemberService {
         }
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Member not found"));
-        member.setMembershipStatus(MembershipStatus.valueOf(status.toUpperCase()));
+        MembershipStatus newStatus = MembershipStatus.valueOf(status.toUpperCase());
+        if (newStatus == MembershipStatus.ACTIVE && member.getMembershipStatus() != MembershipStatus.ACTIVE) {
+            eventPublisher.publishEvent(TrendChangedEvent.of(TrendChangedEvent.memberApproved(member)));
+        }
+        member.setMembershipStatus(newStatus);
         return mapToResponse(memberRepository.save(member));
     }
 
@@ -178,30 +218,88 @@ public class MemberServiceImpl implements MemberService {
         }
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Member not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(member);
+        TrendChangedEvent trend = TrendChangedEvent.of(TrendChangedEvent.memberJoined(member, -1));
         member.setIsDeleted(true); // Soft delete
         memberRepository.save(member);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.MEMBER, before, null));
+        eventPublisher.publishEvent(trend);
     }
 
     @Override
     public Page<MemberResponse> getMembersByChapter(Integer chapterId, Pageable pageable) {
-        return memberRepository.findByChapterId(chapterId, pageable).map(this::mapToResponse);
+        return memberRepository.findResponsesByChapterId(chapterId, pageable);
     }
 
     @Override
     public Page<MemberResponse> getMembersByChapterAndStatus(Integer chapterId, String status, Pageable pageable) {
         MembershipStatus s = MembershipStatus.valueOf(status.toUpperCase());
-        return memberRepository.findByChapterIdAndStatus(chapterId, s, pageable).map(this::mapToResponse);
+        return memberRepository.findResponsesByChapterIdAndStatus(chapterId, s, pageable);
     }
 
     @Override
     public Page<MemberResponse> searchMembers(Integer chapterId, String eduLevel,
             String sector, String status,
-            String query, Pageable pageable) {
+            String query, Pageable pageable, String countStrategy) {
         MembershipStatus s = status != null ? MembershipStatus.valueOf(status.toUpperCase()) : null;
         String statusStr = s != null ? s.name() : null;
         String formattedQuery = (query != null && !query.isEmpty()) ? query : null;
-        return memberRepository.searchMembers(chapterId, eduLevel, sector, statusStr, formattedQuery, pageable)
-                .map(this::mapToResponse);
+        String filterKey = chapterId == null && eduLevel == null && sector == null && statusStr == null
+                && formattedQuery == null ? null
+                        : chapterId + "|" + eduLevel + "|" + sector + "|" + statusStr + "|" + formattedQuery;
+        // Rank by similarity unless the caller asked for an explicit sort
+        boolean ranked = formattedQuery != null && pageable.getSort().isUnsorted()
+                && searchIndexInitializer.isTrigramEnabled();
+        return pageCounter.page("members", "members", filterKey, countStrategy, pageable,
+                () -> ranked
+                        ? responsesInOrder(memberRepository.searchMembersRanked(chapterId, eduLevel, sector, statusStr,
+                                formattedQuery, pageable))
+                        : memberRepository.searchMemberResponses(chapterId, eduLevel, sector, s, formattedQuery,
+                                pageable),
+                () -> memberRepository.countSearchMembers(chapterId, eduLevel, sector, statusStr, formattedQuery));
+    }
+
+    /** Projects a page of ranked ids with one more query, keeping the rank order. */
+    private Slice<MemberResponse> responsesInOrder(Slice<Integer> ids) {
+        if (!ids.hasContent()) {
+            return ids.map(id -> null);
+        }
+        Map<Integer, MemberResponse> byId = memberRepository.findResponsesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(MemberResponse::getId, Function.identity()));
+        return ids.map(byId::get);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<MemberResponse> scrollMembers(Integer chapterId, String status, String query,
+            String cursor, int size, String sort, String direction, boolean estimateTotal) {
+        KeysetCursor.Request request = KeysetCursor.resolve(cursor, sort, direction, CURSOR_SORT_FIELDS);
+        MembershipStatus s = status != null ? MembershipStatus.valueOf(status.toUpperCase()) : null;
+        String pattern = (query != null && !query.isBlank()) ? "%" + query.toLowerCase() + "%" : null;
+
+        Specification<Member> spec = (root, cq, cb) -> cb.or(cb.isFalse(root.get("isDeleted")),
+                cb.isNull(root.get("isDeleted")));
+        if (chapterId != null) {
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("chapter").get("id"), chapterId));
+        }
+        if (s != null) {
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("membershipStatus"), s));
+        }
+        if (pattern != null) {
+            spec = spec.and((root, cq, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("fullName")), pattern),
+                    cb.like(cb.lower(root.get("membershipCode")), pattern),
+                    cb.like(cb.lower(root.get("phone")), pattern)));
+        }
+
+        // Fetch graph hint; scroll may not apply it, so mapping stays in this transaction (batch-fetched)
+        Window<Member> window = memberRepository.findBy(spec,
+                q -> q.sortBy(request.sort()).limit(size)
+                        .project("user", "chapter", "educationalLevel", "workingSector", "gender")
+                        .scroll(request.position()));
+        boolean unfiltered = chapterId == null && s == null && pattern == null;
+        return CursorPageDto.from(window, this::mapToResponse, request.sort(), size,
+                estimateTotal && unfiltered ? tableStatistics.estimatedRowCount("members") : null);
     }
 
     private MemberResponse mapToResponse(Member member) {
@@ -217,14 +315,14 @@ public class MemberServiceImpl implements MemberService {
                 .membershipStatus(member.getMembershipStatus())
                 .joinedDate(member.getJoinedDate())
                 .organization(member.getOrganization())
-                .gender(member.getGender() != null ? member.getGender().getName() : null)
+                .gender(masterDataIndex.nameOf(member.getGender()))
                 .college(member.getCollege())
                 .university(member.getUniversity())
                 .graduationYear(member.getGraduationYear())
                 .chapterId(member.getChapter() != null ? member.getChapter().getId() : null)
                 .chapterName(member.getChapter() != null ? member.getChapter().getChapterName() : null)
-                .educationalLevel(member.getEducationalLevel() != null ? member.getEducationalLevel().getName() : null)
-                .workingSector(member.getWorkingSector() != null ? member.getWorkingSector().getName() : null)
+                .educationalLevel(masterDataIndex.nameOf(member.getEducationalLevel()))
+                .workingSector(masterDataIndex.nameOf(member.getWorkingSector()))
                 .createdAt(member.getCreatedAt())
                 .updatedAt(member.getUpdatedAt())
                 .build();
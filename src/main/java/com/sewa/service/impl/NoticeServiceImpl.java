@@ -1,5 +1,6 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.service.EntityStreams;
 import com.sewa.dto.request.NoticeRequest;
 import com.sewa.dto.response.NoticeResponse;
 import com.sewa.entity.Notice;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +23,7 @@ public class NoticeServiceImpl implements NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
+    private final EntityStreams entityStreams;
 
     @Override
     public List<NoticeResponse> getAllNotices() {
@@ -29,6 +32,12 @@ public class NoticeServiceImpl implements NoticeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllNotices(Consumer<NoticeResponse> sink) {
+        entityStreams.forEach(noticeRepository.streamResponses(), sink);
+    }
+
     @Override
     @Transactional
     public NoticeResponse saveNotice(String authorUsername, NoticeRequest noticeRequest) {
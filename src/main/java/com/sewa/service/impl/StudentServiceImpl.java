@@ -1,5 +1,12 @@
 package com.sewa.service.impl;
 
+import com.sewa.common.dto.CursorPageDto;
+import com.sewa.common.event.StatsChangedEvent;
+import com.sewa.common.service.MembershipCodeAllocator;
+import com.sewa.common.service.PageCounter;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.common.util.KeysetCursor;
+import com.sewa.dto.response.BulkActionResponse;
 import com.sewa.dto.response.StudentResponse;
 import com.sewa.entity.Student;
 import com.sewa.entity.User;
@@ -9,25 +16,44 @@ import com.sewa.repository.StudentRepository;
 import com.sewa.repository.UserRepository;
 import com.sewa.service.StudentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
-    private final com.sewa.repository.EducationalLevelRepository educationalLevelRepository;
+    private final MasterDataIndex masterDataIndex;
+    private final TableStatistics tableStatistics;
+    private final PageCounter pageCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MembershipCodeAllocator codeAllocator;
+    private final BulkMembershipUpdater bulkUpdater;
+
+    /** Sort fields allowed for keyset pagination (must be non-null columns) */
+    private static final Map<String, Function<String, Object>> CURSOR_SORT_FIELDS = Map.of(
+            KeysetCursor.ID, Integer::valueOf,
+            "fullName", value -> value);
 
     @Override
-    public Page<StudentResponse> getAllStudents(org.springframework.data.domain.Pageable pageable) {
+    public Page<StudentResponse> getAllStudents(org.springframework.data.domain.Pageable pageable,
+            String countStrategy) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return studentRepository.findAll(pageable).map(this::mapToResponse);
+        return pageCounter.page("students", "students", null, countStrategy, pageable,
+                () -> studentRepository.findAllResponses(pageable), studentRepository::count);
     }
 
     @Override
@@ -59,13 +85,7 @@ public class StudentServiceImpl implements StudentService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new SewaException("Student not found"));
         if (student.getMembershipCode() == null) {
-            Long lastId = studentRepository.getLastStudentId();
-            String code;
-            long nextNum = (lastId != null ? lastId : 0) + 1;
-            do {
-                code = String.format("SEWAS%03d", nextNum++);
-            } while (studentRepository.findByMembershipCode(code).isPresent());
-            student.setMembershipCode(code);
+            student.setMembershipCode(codeAllocator.allocate(MembershipCodeAllocator.Kind.STUDENT));
         }
         student.setStatus(MembershipStatus.ACTIVE);
         User user = student.getUser();
@@ -88,6 +108,18 @@ public class StudentServiceImpl implements StudentService {
         return mapToResponse(studentRepository.save(student));
     }
 
+    @Override
+    @Transactional
+    public BulkActionResponse approveStudents(List<Integer> studentIds) {
+        return bulkUpdater.approve(MembershipCodeAllocator.Kind.STUDENT, studentIds);
+    }
+
+    @Override
+    @Transactional
+    public BulkActionResponse rejectStudents(List<Integer> studentIds) {
+        return bulkUpdater.reject(MembershipCodeAllocator.Kind.STUDENT, studentIds);
+    }
+
     @Override
     @Transactional
     public StudentResponse updateStudent(Integer id, StudentResponse request) {
@@ -96,18 +128,21 @@ public class StudentServiceImpl implements StudentService {
         }
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Student not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(student);
         student.setFullName(request.getFullName());
         student.setInstitute(request.getInstitute());
         student.setCourse(request.getCourse());
         student.setPhone(request.getPhone());
 
-        if (request.getEducationalLevel() != null) {
-            student.setEducationalLevel(educationalLevelRepository.findByName(request.getEducationalLevel())
-                    .orElseThrow(
-                            () -> new SewaException("Educational Level not found: " + request.getEducationalLevel())));
+        if (request.getEducationalLevel() != null
+                && !request.getEducationalLevel().equals(masterDataIndex.nameOf(student.getEducationalLevel()))) {
+            student.setEducationalLevel(masterDataIndex.educationalLevel(request.getEducationalLevel()));
         }
 
-        return mapToResponse(studentRepository.save(student));
+        Student saved = studentRepository.save(student);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.STUDENT, before,
+                StatsChangedEvent.bucketOf(saved, masterDataIndex.nameOf(saved.getEducationalLevel()))));
+        return mapToResponse(saved);
     }
 
     @Override
@@ -130,13 +165,36 @@ public class StudentServiceImpl implements StudentService {
         }
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new SewaException("Student not found"));
+        StatsChangedEvent.Bucket before = StatsChangedEvent.bucketOf(student);
         student.setIsDeleted(true); // Soft delete
         studentRepository.save(student);
+        eventPublisher.publishEvent(new StatsChangedEvent(StatsChangedEvent.Subject.STUDENT, before, null));
     }
 
     @Override
     public Page<StudentResponse> getPendingStudents(Pageable pageable) {
-        return studentRepository.findByStatus(MembershipStatus.PENDING, pageable).map(this::mapToResponse);
+        return studentRepository.findResponsesByStatus(MembershipStatus.PENDING, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<StudentResponse> scrollStudents(String status, String cursor, int size, String sort,
+            String direction, boolean estimateTotal) {
+        KeysetCursor.Request request = KeysetCursor.resolve(cursor, sort, direction, CURSOR_SORT_FIELDS);
+        MembershipStatus s = status != null ? MembershipStatus.valueOf(status.toUpperCase()) : null;
+
+        Specification<Student> spec = (root, cq, cb) -> cb.or(cb.isFalse(root.get("isDeleted")),
+                cb.isNull(root.get("isDeleted")));
+        if (s != null) {
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("status"), s));
+        }
+
+        // Fetch graph hint; scroll may not apply it, so mapping stays in this transaction (batch-fetched)
+        Window<Student> window = studentRepository.findBy(spec,
+                q -> q.sortBy(request.sort()).limit(size).project("user", "educationalLevel")
+                        .scroll(request.position()));
+        return CursorPageDto.from(window, this::mapToResponse, request.sort(), size,
+                estimateTotal && s == null ? tableStatistics.estimatedRowCount("students") : null);
     }
 
     private StudentResponse mapToResponse(Student student) {
@@ -149,8 +207,7 @@ public class StudentServiceImpl implements StudentService {
                 .institute(student.getInstitute())
                 .course(student.getCourse())
                 .phone(student.getPhone())
-                .educationalLevel(
-                        student.getEducationalLevel() != null ? student.getEducationalLevel().getName() : null)
+                .educationalLevel(masterDataIndex.nameOf(student.getEducationalLevel()))
                 .status(student.getStatus())
                 .createdAt(student.getCreatedAt())
                 .updatedAt(student.getUpdatedAt())
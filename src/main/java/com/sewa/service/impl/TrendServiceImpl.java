@@ -0,0 +1,309 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.event.TrendChangedEvent;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.dto.response.TrendBreakdownItem;
+import com.sewa.dto.response.TrendPoint;
+import com.sewa.dto.response.TrendSeriesResponse;
+import com.sewa.entity.Chapter;
+import com.sewa.entity.enums.TrendMetric;
+import com.sewa.exception.SewaException;
+import com.sewa.repository.ChapterRepository;
+import com.sewa.repository.DailyRollupRepository;
+import com.sewa.service.TrendService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Trend series served from {@code daily_rollups}. Service writes publish
+ * {@link TrendChangedEvent}s that are applied after their transaction commits,
+ * in a transaction of their own, so business transactions never wait on the
+ * lock of a hot rollup row. A delta lost to a failure or crash in between is
+ * repaired by the periodic rebuild of the derivable metrics, which also covers
+ * other drift (e.g. a member moving chapters, or writes that bypass the
+ * services); approvals cannot be rebuilt and stay best effort. Empty metrics
+ * are backfilled on startup.
+ */
+@Service
+@Slf4j
+public class TrendServiceImpl implements TrendService {
+
+    private static final String INSERT_COLUMNS = "INSERT INTO daily_rollups (metric, stat_date, chapter_id, financial_year, event_count, amount) ";
+
+    private static final String UPSERT = INSERT_COLUMNS + "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (metric, stat_date, chapter_id, financial_year) DO UPDATE SET " +
+            "event_count = daily_rollups.event_count + EXCLUDED.event_count, " +
+            "amount = daily_rollups.amount + EXCLUDED.amount";
+
+    private static final String UPDATE = "UPDATE daily_rollups SET event_count = event_count + ?, amount = amount + ? " +
+            "WHERE metric = ? AND stat_date = ? AND chapter_id = ? AND financial_year = ?";
+
+    private static final String INSERT = INSERT_COLUMNS + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String JOIN_DATE = "COALESCE(joined_date, CAST(created_at AS DATE))";
+
+    private static final Map<TrendMetric, String> REBUILD_SELECTS = Map.of(
+            TrendMetric.MEMBERS_JOINED,
+            "SELECT 'MEMBERS_JOINED', " + JOIN_DATE + ", COALESCE(chapter_id, 0), '', COUNT(*), 0 FROM members " +
+                    "WHERE (is_deleted = false OR is_deleted IS NULL) AND " + JOIN_DATE + " IS NOT NULL " +
+                    "GROUP BY " + JOIN_DATE + ", COALESCE(chapter_id, 0)",
+            // No approval timestamp exists; the last update of active members is the closest approximation
+            TrendMetric.MEMBERS_APPROVED,
+            "SELECT 'MEMBERS_APPROVED', CAST(COALESCE(updated_at, created_at) AS DATE), COALESCE(chapter_id, 0), '', COUNT(*), 0 " +
+                    "FROM members WHERE membership_status = 'ACTIVE' AND (is_deleted = false OR is_deleted IS NULL) " +
+                    "AND COALESCE(updated_at, created_at) IS NOT NULL " +
+                    "GROUP BY CAST(COALESCE(updated_at, created_at) AS DATE), COALESCE(chapter_id, 0)",
+            TrendMetric.FEES_COLLECTED,
+            "SELECT 'FEES_COLLECTED', f.payment_date, COALESCE(m.chapter_id, 0), COALESCE(f.financial_year, ''), COUNT(*), SUM(f.amount) " +
+                    "FROM membership_fees f LEFT JOIN members m ON m.member_id = f.member_id " +
+                    "WHERE f.payment_status = 'PAID' AND f.payment_date IS NOT NULL " +
+                    "AND (f.is_deleted = false OR f.is_deleted IS NULL) " +
+                    "GROUP BY f.payment_date, COALESCE(m.chapter_id, 0), COALESCE(f.financial_year, '')");
+
+    private final DailyRollupRepository rollupRepository;
+    private final ChapterRepository chapterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TableStatistics tableStatistics;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deltaTransaction;
+    private final int maxRangeDays;
+    private final int defaultMaxPoints;
+
+    public TrendServiceImpl(DailyRollupRepository rollupRepository, ChapterRepository chapterRepository,
+            JdbcTemplate jdbcTemplate, TableStatistics tableStatistics, PlatformTransactionManager transactionManager,
+            @Value("${sewa.dashboard.trends.max-range-days:1830}") int maxRangeDays,
+            @Value("${sewa.dashboard.trends.max-points:400}") int defaultMaxPoints) {
+        this.rollupRepository = rollupRepository;
+        this.chapterRepository = chapterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableStatistics = tableStatistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // After commit the original transaction is finished but still bound, so deltas need a new one
+        this.deltaTransaction = new TransactionTemplate(transactionManager);
+        deltaTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxRangeDays = maxRangeDays;
+        this.defaultMaxPoints = defaultMaxPoints;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrendChanged(TrendChangedEvent event) {
+        if (event.deltas().isEmpty()) {
+            return;
+        }
+        try {
+            deltaTransaction.executeWithoutResult(status -> event.deltas().forEach(this::apply));
+        } catch (DataAccessException e) {
+            // The data is already committed; the next rebuild repairs the rollup
+            log.warn("Could not apply {} trend deltas: {}", event.deltas().size(), e.getMessage());
+        }
+    }
+
+    private void apply(TrendChangedEvent.Delta delta) {
+        Date day = Date.valueOf(delta.day());
+        if (tableStatistics.isPostgres()) {
+            jdbcTemplate.update(UPSERT, delta.metric().name(), day, delta.chapterId(), delta.financialYear(),
+                    delta.count(), delta.amount());
+            return;
+        }
+        int updated = jdbcTemplate.update(UPDATE, delta.count(), delta.amount(), delta.metric().name(), day,
+                delta.chapterId(), delta.financialYear());
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT, delta.metric().name(), day, delta.chapterId(), delta.financialYear(),
+                    delta.count(), delta.amount());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (TrendMetric metric : TrendMetric.values()) {
+            try {
+                if (!rollupRepository.existsByMetric(metric)) {
+                    log.info("Backfilled {} {} rollup rows", rebuildRows(metric), metric);
+                }
+            } catch (Exception e) {
+                log.warn("Could not backfill {} rollups: {}", metric, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${sewa.dashboard.trends.rebuild-interval-ms:86400000}", fixedDelayString = "${sewa.dashboard.trends.rebuild-interval-ms:86400000}")
+    public void scheduledRebuild() {
+        rebuild(TrendMetric.MEMBERS_JOINED);
+        rebuild(TrendMetric.FEES_COLLECTED);
+    }
+
+    @Override
+    public int rebuild(TrendMetric metric) {
+        if (metric == TrendMetric.MEMBERS_APPROVED) {
+            throw new SewaException("Approvals are recorded as they happen and cannot be rebuilt");
+        }
+        return rebuildRows(metric);
+    }
+
+    private int rebuildRows(TrendMetric metric) {
+        Integer rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM daily_rollups WHERE metric = ?", metric.name());
+            return jdbcTemplate.update(INSERT_COLUMNS + REBUILD_SELECTS.get(metric));
+        });
+        return rows != null ? rows : 0;
+    }
+
+    @Override
+    public TrendSeriesResponse getSeries(TrendMetric metric, LocalDate from, LocalDate to, Granularity granularity,
+            Integer chapterId, String financialYear, Integer maxPoints) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        checkRange(start, end);
+        Granularity step = granularity != null ? granularity : Granularity.DAY;
+
+        Map<LocalDate, Object[]> days = new HashMap<>();
+        for (Object[] row : rollupRepository.sumByDay(metric, start, end, chapterId, financialYear)) {
+            days.put((LocalDate) row[0], row);
+        }
+
+        // Zero-filled periods aligned to the granularity, clipped to the requested range
+        List<TrendPoint> periods = new ArrayList<>();
+        long totalCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (LocalDate periodStart = align(start, step); !periodStart.isAfter(end); periodStart = next(periodStart, step)) {
+            LocalDate first = periodStart.isBefore(start) ? start : periodStart;
+            LocalDate periodEnd = next(periodStart, step).minusDays(1);
+            LocalDate last = periodEnd.isAfter(end) ? end : periodEnd;
+            long count = 0;
+            BigDecimal amount = BigDecimal.ZERO;
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                Object[] row = days.get(day);
+                if (row != null) {
+                    count += ((Number) row[1]).longValue();
+                    amount = amount.add(toBigDecimal(row[2]));
+                }
+            }
+            totalCount += count;
+            totalAmount = totalAmount.add(amount);
+            periods.add(TrendPoint.builder().periodStart(first).periodEnd(last).count(count).amount(amount).build());
+        }
+
+        int limit = maxPoints != null && maxPoints > 0 ? maxPoints : defaultMaxPoints;
+        int perPoint = (periods.size() + limit - 1) / limit;
+        return TrendSeriesResponse.builder()
+                .metric(metric)
+                .granularity(step.name())
+                .from(start)
+                .to(end)
+                .periodsPerPoint(Math.max(1, perPoint))
+                .totalCount(totalCount)
+                .totalAmount(totalAmount)
+                .points(perPoint > 1 ? downsample(periods, perPoint) : periods)
+                .build();
+    }
+
+    /** Sums every {@code perPoint} consecutive periods, so totals are preserved. */
+    private static List<TrendPoint> downsample(List<TrendPoint> periods, int perPoint) {
+        List<TrendPoint> points = new ArrayList<>(periods.size() / perPoint + 1);
+        for (int i = 0; i < periods.size(); i += perPoint) {
+            List<TrendPoint> group = periods.subList(i, Math.min(i + perPoint, periods.size()));
+            points.add(TrendPoint.builder()
+                    .periodStart(group.get(0).getPeriodStart())
+                    .periodEnd(group.get(group.size() - 1).getPeriodEnd())
+                    .count(group.stream().mapToLong(TrendPoint::getCount).sum())
+                    .amount(group.stream().map(TrendPoint::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .build());
+        }
+        return points;
+    }
+
+    @Override
+    public List<TrendBreakdownItem> getByChapter(TrendMetric metric, LocalDate from, LocalDate to,
+            String financialYear) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        checkRange(start, end);
+        List<Object[]> rows = rollupRepository.sumByChapter(metric, start, end, financialYear);
+        List<Integer> ids = rows.stream().map(row -> (Integer) row[0]).filter(id -> id != 0).toList();
+        Map<Integer, String> names = chapterRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Chapter::getId, Chapter::getChapterName));
+        return rows.stream()
+                .map(row -> {
+                    Integer id = (Integer) row[0];
+                    return TrendBreakdownItem.builder()
+                            .key(id.toString())
+                            .label(id == 0 ? "Unassigned" : names.getOrDefault(id, "Chapter " + id))
+                            .count(((Number) row[1]).longValue())
+                            .amount(toBigDecimal(row[2]))
+                            .build();
+                })
+                .sorted((a, b) -> Long.compare(b.getCount(), a.getCount()))
+                .toList();
+    }
+
+    @Override
+    public List<TrendBreakdownItem> getByFinancialYear(TrendMetric metric, LocalDate from, LocalDate to,
+            Integer chapterId) {
+        // Financial years span calendar years, so the default window is wider than for series
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(5);
+        checkRange(start, end);
+        return rollupRepository.sumByFinancialYear(metric, start, end, chapterId).stream()
+                .map(row -> TrendBreakdownItem.builder()
+                        .key((String) row[0])
+                        .label(((String) row[0]).isEmpty() ? "Unspecified" : (String) row[0])
+                        .count(((Number) row[1]).longValue())
+                        .amount(toBigDecimal(row[2]))
+                        .build())
+                .toList();
+    }
+
+    private void checkRange(LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            throw new SewaException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new SewaException("Date range is limited to " + maxRangeDays + " days");
+        }
+    }
+
+    private static LocalDate align(LocalDate day, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate next(LocalDate periodStart, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> periodStart.plusDays(1);
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
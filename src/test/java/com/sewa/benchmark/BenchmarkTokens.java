@@ -0,0 +1,71 @@
+package com.sewa.benchmark;
+
+import com.sewa.entity.Permission;
+import com.sewa.repository.PermissionRepository;
+import com.sewa.security.JwtUtils;
+import com.sewa.security.PermissionIndex;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Builds {@link JwtUtils} outside Spring with the default secret and a
+ * permission table mirroring {@code DataLoader}, and issues the token of the
+ * seeded SUPER_ADMIN, the largest token the application issues.
+ */
+public final class BenchmarkTokens {
+
+    public static final String SECRET = "9a67471ec639f4ff3b1f8f29810738470a73c5240a1fef3e3f421f6b2c2b7d9c";
+
+    /** The permission codes seeded by {@code DataLoader.initializePermissions}, all granted to SUPER_ADMIN */
+    public static final List<String> PERMISSIONS = List.of("USER_LOGIN", "USER_REGISTER", "USER_PROFILE_VIEW",
+            "USER_PROFILE_UPDATE", "MEMBER_CREATE", "MEMBER_VIEW", "MEMBER_UPDATE", "MEMBER_APPROVE",
+            "MEMBER_REJECT", "MEMBER_DELETE", "MEMBER_LIST", "STUDENT_CREATE", "STUDENT_VIEW", "STUDENT_UPDATE",
+            "STUDENT_APPROVE", "STUDENT_DELETE", "STUDENT_LIST", "CHAPTER_CREATE", "CHAPTER_VIEW", "CHAPTER_UPDATE",
+            "CHAPTER_DELETE", "CHAPTER_ASSIGN_MEMBER", "CHAPTER_VIEW_MEMBERS", "FEE_VIEW", "FEE_PAY", "FEE_VERIFY",
+            "FEE_RECEIPT_GENERATE", "FEE_REPORT", "CONTENT_CREATE", "CONTENT_VIEW", "CONTENT_UPDATE",
+            "CONTENT_DELETE", "CONTENT_PUBLISH", "CONTENT_ARCHIVE", "AGM_CREATE", "AGM_VIEW", "AGM_UPDATE",
+            "AGM_DELETE", "AGM_ATTENDANCE_MARK", "AGM_REPORT", "NEWS_CREATE", "NEWS_VIEW", "NEWS_UPDATE",
+            "NEWS_DELETE", "REPORT_VIEW", "REPORT_EXPORT", "MESSAGE_SEND", "MESSAGE_VIEW", "MESSAGE_DELETE",
+            "DOCUMENT_CIRCULATE", "SYSTEM_SETTINGS_VIEW", "SYSTEM_SETTINGS_UPDATE", "AUDIT_LOG_VIEW", "ROLE_CREATE",
+            "ROLE_UPDATE", "ROLE_DELETE", "PERMISSION_ASSIGN", "USER_ROLE_ASSIGN");
+
+    private BenchmarkTokens() {
+    }
+
+    public static PermissionIndex permissionIndex() {
+        PermissionRepository repository = mock(PermissionRepository.class);
+        List<Permission> table = IntStream.range(0, PERMISSIONS.size())
+                .mapToObj(i -> Permission.builder().id(i + 1).permissionCode(PERMISSIONS.get(i)).build())
+                .toList();
+        when(repository.findAll()).thenReturn(table);
+        PermissionIndex index = new PermissionIndex(repository);
+        index.load();
+        return index;
+    }
+
+    public static JwtUtils jwtUtils(PermissionIndex permissionIndex, boolean compactPermissions) {
+        JwtUtils jwtUtils = new JwtUtils(permissionIndex);
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 900_000);
+        ReflectionTestUtils.setField(jwtUtils, "compactPermissions", compactPermissions);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+        return jwtUtils;
+    }
+
+    public static UserDetails superAdmin() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_SUPER_ADMIN"));
+        PERMISSIONS.forEach(code -> authorities.add(new SimpleGrantedAuthority(code)));
+        return User.withUsername("superadmin").password("unused").authorities(authorities).build();
+    }
+}
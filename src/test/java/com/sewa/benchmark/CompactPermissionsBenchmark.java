@@ -0,0 +1,52 @@
+package com.sewa.benchmark;
+
+import com.sewa.security.JwtUtils;
+import com.sewa.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Header size and parse time of the SUPER_ADMIN token with permissions as a
+ * list of strings versus the compact {@code pb} bitset claim. The
+ * {@code Authorization} header size of each format is printed at setup;
+ * {@code verify} covers signature check, claim parsing and, for the compact
+ * format, expanding the bitset through the permission index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactPermissionsBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = BenchmarkTokens.jwtUtils(BenchmarkTokens.permissionIndex(), compact);
+        token = jwtUtils.generateToken(BenchmarkTokens.superAdmin());
+        System.out.printf("%n[compact=%s] Authorization header: %d bytes%n", compact,
+                ("Authorization: Bearer " + token).length());
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtils.verify(token);
+    }
+}
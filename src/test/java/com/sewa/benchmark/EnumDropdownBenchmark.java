@@ -0,0 +1,79 @@
+package com.sewa.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sewa.common.service.EnumDropdownRegistry;
+import com.sewa.common.util.ApiResponseBuilder;
+import com.sewa.dto.response.DropdownResponse;
+import com.sewa.entity.enums.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler work behind GET /dropdowns/genders: {@code prebuilt} picks the
+ * response {@link EnumDropdownRegistry} encoded at startup (including the
+ * ETag check), {@code perRequest} is the previous controller method, which
+ * built the list and had Jackson serialize it on every call. Both create the
+ * same mock request and response (most of the time per call) and write the
+ * body to the response, so the difference between the two is the work saved.
+ * The filter and security chain in front of either is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumDropdownBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EnumDropdownRegistry registry;
+
+    @Setup
+    public void setUp() {
+        // The mapper Spring Boot builds by default
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        registry = new EnumDropdownRegistry(objectMapper, 86400);
+    }
+
+    private static ServletWebRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/dropdowns/genders");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    /** Writes the body as the message converter would */
+    private static Object write(ServletWebRequest request, byte[] body) throws Exception {
+        request.getResponse().getOutputStream().write(body);
+        return request.getResponse();
+    }
+
+    @Benchmark
+    public Object prebuilt() throws Exception {
+        ServletWebRequest request = request();
+        return write(request, registry.respond("genders", request).getBody());
+    }
+
+    @Benchmark
+    public Object perRequest() throws Exception {
+        List<DropdownResponse> list = Arrays.stream(Gender.values())
+                .map(g -> new DropdownResponse(g.name(), g.name()))
+                .toList();
+        return write(request(), objectMapper.writeValueAsBytes(ApiResponseBuilder.success(list, "Genders fetched")));
+    }
+}
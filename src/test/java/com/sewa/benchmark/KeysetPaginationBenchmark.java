@@ -0,0 +1,138 @@
+package com.sewa.benchmark;
+
+import com.sewa.SantalEngineersWelfareAssociationApplication;
+import com.sewa.service.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page 1 versus page 5000 (20 rows per page) of the member listing over
+ * 100k members, through the real services on an in-memory H2 database: the
+ * {@code offset} mode is GET /members (OFFSET plus its COUNT query), the
+ * {@code keyset} mode is GET /members/scroll with the cursor the previous page
+ * would have returned. Each call moves to one of the {@value #SPREAD} pages
+ * ending at (or starting at) the measured one, so H2 cannot serve a repeated
+ * query from its last result. Both cursor sorts are covered: {@code id} and
+ * {@code fullName} (unindexed, with id as tie-breaker).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeysetPaginationBenchmark {
+
+    private static final int MEMBERS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    /** Consecutive pages cycled through, so H2 never answers a repeated query from its last result */
+    private static final int SPREAD = 16;
+
+    @Param({ "1", "5000" })
+    public int page;
+
+    @Param({ "offset", "keyset" })
+    public String mode;
+
+    @Param({ "id", "fullName" })
+    public String sort;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private final int[] pages = new int[SPREAD];
+    private final String[] cursors = new String[SPREAD];
+    private Sort orderBy;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SantalEngineersWelfareAssociationApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:pagination;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN", "logging.level.com.sewa=WARN")
+                .run();
+        memberService = context.getBean(MemberService.class);
+        orderBy = "id".equals(sort) ? Sort.by("id") : Sort.by("fullName").and(Sort.by("id"));
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            rows.add(new Object[] { String.format("Member %06d", (i * 7919L) % MEMBERS), "BM" + i, now, now });
+            if (rows.size() == 5_000) {
+                insert(jdbcTemplate, rows);
+            }
+        }
+        insert(jdbcTemplate, rows);
+
+        // Page 1 is the first of the cycle, page 5000 the last
+        for (int i = 0; i < SPREAD; i++) {
+            pages[i] = page == 1 ? 1 + i : page - SPREAD + 1 + i;
+            cursors[i] = cursorBefore(jdbcTemplate, pages[i]);
+        }
+    }
+
+    /** What the previous page's nextCursor would carry: the sort key and id of its last row */
+    private String cursorBefore(JdbcTemplate jdbcTemplate, int target) {
+        if (target == 1) {
+            return null;
+        }
+        Map<String, Object> last = jdbcTemplate.queryForMap("SELECT member_id, full_name FROM members ORDER BY "
+                + ("id".equals(sort) ? "" : "full_name, ") + "member_id OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+                (target - 1) * PAGE_SIZE - 1);
+        String keys = "id".equals(sort) ? "&id=" + last.get("member_id")
+                : "&fullName=" + URLEncoder.encode((String) last.get("full_name"), StandardCharsets.UTF_8)
+                        + "&id=" + last.get("member_id");
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sort + "&ASC" + keys).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO members (full_name, membership_code, membership_status, is_deleted, "
+                + "created_at, updated_at) VALUES (?, ?, 'ACTIVE', false, ?, ?)", rows);
+        rows.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object fetchPage() {
+        int i = next++ & (SPREAD - 1);
+        if ("offset".equals(mode)) {
+            return memberService.getAllMembers(PageRequest.of(pages[i] - 1, PAGE_SIZE, orderBy));
+        }
+        return memberService.scrollMembers(null, null, null, cursors[i], PAGE_SIZE, sort, "asc", false);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sewa.benchmark;
+
+import com.sewa.repository.RevokedTokenRepository;
+import com.sewa.security.TokenRevocationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Per-request revocation check against a store holding {@code revoked}
+ * tokens, with the default Bloom filter size. {@code notRevoked} is the
+ * common case (answered by the Bloom filter alone); {@code revoked} also
+ * goes through the exact set. Run with {@code -prof gc} to confirm neither
+ * allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRevocationBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({ "1000", "100000" })
+    public int revoked;
+
+    private TokenRevocationService service;
+    private final String[] revokedJtis = new String[PROBES];
+    private final String[] otherJtis = new String[PROBES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        service = new TokenRevocationService(mock(RevokedTokenRepository.class), 1 << 20);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < revoked; i++) {
+            String jti = UUID.randomUUID().toString();
+            service.revoke(jti, expiresAt);
+            if (i < PROBES) {
+                revokedJtis[i] = jti;
+            }
+        }
+        for (int i = 0; i < PROBES; i++) {
+            otherJtis[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return service.isRevoked(otherJtis[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return service.isRevoked(revokedJtis[next++ & (PROBES - 1)]);
+    }
+}
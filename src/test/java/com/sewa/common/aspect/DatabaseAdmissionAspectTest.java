@@ -0,0 +1,132 @@
+package com.sewa.common.aspect;
+
+import com.sewa.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseAdmissionAspectTest {
+
+    /** A repository call that hashes while admitted, like login inside the authentication provider */
+    interface LoginRepository extends Repository<Object, Long> {
+        boolean login();
+
+        void hold(CountDownLatch release);
+    }
+
+    // max-concurrent 2 minus the export permit leaves one ordinary permit
+    private final DatabaseAdmissionAspect aspect = new DatabaseAdmissionAspect(2, 1, 100);
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch hashed = new CountDownLatch(1);
+
+    private final PasswordEncoder encoder = proxy(new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashing.countDown();
+            try {
+                return hashed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    });
+
+    private final LoginRepository repository = proxy(new LoginRepository() {
+        @Override
+        public boolean login() {
+            return encoder.matches("secret", "secret");
+        }
+
+        @Override
+        public void hold(CountDownLatch release) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    });
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    private Object available() {
+        return aspect.getMetrics().get("available");
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashed.countDown();
+    }
+
+    @Test
+    void permitIsHandedBackWhileHashingOutsideATransaction() throws Exception {
+        CompletableFuture<Boolean> login = CompletableFuture.supplyAsync(repository::login);
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(available()).isEqualTo(1);
+
+        hashed.countDown();
+        assertThat(login.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(available()).isEqualTo(1);
+        assertThat(aspect.getMetrics().get("releasedForHashing")).isEqualTo(1L);
+    }
+
+    @Test
+    void permitIsKeptWhileHashingInsideATransaction() throws Exception {
+        CompletableFuture<Boolean> register = CompletableFuture.supplyAsync(() -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                return repository.login();
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        });
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The transaction holds a connection, so its permit must stay taken
+        assertThat(available()).isEqualTo(0);
+
+        hashed.countDown();
+        assertThat(register.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    void failingToRetakeThePermitIsA503AndLeaksNothing() throws Exception {
+        CompletableFuture<Boolean> login = CompletableFuture.supplyAsync(repository::login);
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CountDownLatch releaseHolder = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> repository.hold(releaseHolder));
+        while (!available().equals(0)) {
+            Thread.onSpinWait();
+        }
+
+        hashed.countDown();
+        assertThatThrownBy(() -> login.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+
+        releaseHolder.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(available()).isEqualTo(1);
+    }
+}
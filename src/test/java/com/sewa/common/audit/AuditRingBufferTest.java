@@ -0,0 +1,149 @@
+package com.sewa.common.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditRingBufferTest {
+
+    private static AuditEvent event(int id) {
+        return new AuditEvent(1, "CREATE", "Member", id, LocalDateTime.now());
+    }
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertThat(new AuditRingBuffer<Integer>(1000).capacity()).isEqualTo(1024);
+        assertThat(new AuditRingBuffer<Integer>(1024).capacity()).isEqualTo(1024);
+        assertThat(new AuditRingBuffer<Integer>(3).capacity()).isEqualTo(4);
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrainedAndKeepsFifoOrderAcrossWrap() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        for (int round = 0; round < 3; round++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            assertThat(buffer.size()).isEqualTo(buffer.capacity());
+            assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertThat(drained).containsExactlyElementsOf(IntStream.range(0, next).boxed().toList());
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.drainTo(drained, 1)).isZero();
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAcceptedAndKeepPerProducerOrder() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        List<Future<Integer>> accepted = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                accepted.add(pool.submit(() -> {
+                    start.await();
+                    int ok = 0;
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(new long[] {producer, i})) {
+                            ok++;
+                        }
+                    }
+                    return ok;
+                }));
+            }
+            start.countDown();
+
+            List<long[]> drained = new ArrayList<>();
+            while (!accepted.stream().allMatch(Future::isDone)) {
+                buffer.drainTo(drained, 64);
+            }
+            buffer.drainTo(drained, Integer.MAX_VALUE);
+
+            int acceptedTotal = 0;
+            for (Future<Integer> f : accepted) {
+                acceptedTotal += f.get(30, TimeUnit.SECONDS);
+            }
+            // Every accepted element comes out exactly once; rejected ones are the caller's to count
+            assertThat(drained).hasSize(acceptedTotal);
+            long[] lastSeen = new long[producers];
+            Arrays.fill(lastSeen, -1);
+            for (long[] element : drained) {
+                int producer = (int) element[0];
+                assertThat(element[1]).isGreaterThan(lastSeen[producer]);
+                lastSeen[producer] = element[1];
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writerCountsDropsAndDrainsEverythingAcceptedOnShutdown() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<AuditEvent> written = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+                    written.addAll(invocation.getArgument(1));
+                    return new int[0][];
+                });
+        // A long flush interval and a batch larger than the buffer keep the writer parked
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, 16, 1000, TimeUnit.HOURS.toMillis(1));
+        Thread writerThread = (Thread) ReflectionTestUtils.getField(writer, "writerThread");
+        while (writerThread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        int offered = 40;
+        int acceptedCount = 0;
+        for (int i = 0; i < offered; i++) {
+            if (writer.enqueue(event(i))) {
+                acceptedCount++;
+            }
+        }
+        assertThat(acceptedCount).isEqualTo(16);
+        assertThat(writer.getMetrics())
+                .containsEntry("enqueued", 16L)
+                .containsEntry("dropped", (long) offered - 16)
+                .containsEntry("pending", 16);
+
+        writer.shutdown();
+
+        Set<Integer> ids = new HashSet<>();
+        written.forEach(e -> ids.add(e.entityId()));
+        assertThat(written).extracting(AuditEvent::entityId)
+                .containsExactlyElementsOf(IntStream.range(0, 16).boxed().toList());
+        assertThat(ids).hasSize(16);
+        assertThat(writer.getMetrics()).containsEntry("written", 16L).containsEntry("pending", 0);
+    }
+}
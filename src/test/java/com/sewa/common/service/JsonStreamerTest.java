@@ -0,0 +1,99 @@
+package com.sewa.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sewa.dto.response.NoticeResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JsonStreamerTest {
+
+    private static final int ROWS = 100_000;
+    private static final int MIN_ROW_BYTES = 100;
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private EntityStreams entityStreams;
+    private JsonStreamer jsonStreamer;
+
+    @BeforeEach
+    void setUp() {
+        entityStreams = new EntityStreams();
+        ReflectionTestUtils.setField(entityStreams, "entityManager", entityManager);
+        jsonStreamer = new JsonStreamer(objectMapper, entityStreams);
+    }
+
+    private static NoticeResponse notice(int i) {
+        return NoticeResponse.builder().id(i).title("Notice " + i).content("Body of notice " + i + " ".repeat(100))
+                .authorName("System").active(true).createdAt(LocalDateTime.of(2024, 1, 1, 0, 0)).build();
+    }
+
+    private void write(Stream<NoticeResponse> rows, OutputStream out) throws Exception {
+        jsonStreamer.<NoticeResponse>stream("Notices fetched", sink -> entityStreams.forEach(rows, sink))
+                .getBody().writeTo(out);
+    }
+
+    @Test
+    void writesTheUsualEnvelope() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        write(Stream.of(notice(1), notice(2), notice(3)), out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("message").asText()).isEqualTo("Notices fetched");
+        assertThat(body.get("count").asLong()).isEqualTo(3);
+        assertThat(body.get("data")).hasSize(3);
+        assertThat(body.get("data").get(2).get("title").asText()).isEqualTo("Notice 3");
+    }
+
+    @Test
+    void everyFlushWindowIsWrittenOutBeforeTheNextRowIsProduced() throws Exception {
+        long[] written = { 0 };
+        OutputStream counting = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written[0] += len;
+            }
+        };
+        List<String> lagging = new ArrayList<>();
+
+        Stream<NoticeResponse> rows = Stream.iterate(0, i -> i + 1).limit(ROWS)
+                .map(i -> {
+                    // Rows 0..i-1 are handed over; all complete flush windows must be out already
+                    long flushed = (long) i / JsonStreamer.FLUSH_EVERY * JsonStreamer.FLUSH_EVERY;
+                    if (written[0] < flushed * MIN_ROW_BYTES) {
+                        lagging.add("row " + i + ": " + written[0] + " bytes out");
+                    }
+                    return notice(i);
+                });
+        write(rows, counting);
+
+        // Nothing is held back to the end: the stream and the sink only ever see one window
+        assertThat(lagging).isEmpty();
+        assertThat(written[0]).isGreaterThan((long) ROWS * MIN_ROW_BYTES);
+        verify(entityManager, times(ROWS / EntityStreams.CLEAR_EVERY)).clear();
+    }
+}
@@ -0,0 +1,173 @@
+package com.sewa.common.service;
+
+import com.sewa.service.DashboardStatsService;
+import com.sewa.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MembershipCodeAllocatorTest {
+
+    @Autowired
+    private MembershipCodeAllocator allocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TableStatistics tableStatistics;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    private static long number(String code) {
+        return Long.parseLong(code.substring("SEWAS".length()));
+    }
+
+    @Test
+    void concurrentAllocationsNeverHandOutTheSameCode() throws Exception {
+        int threads = 8;
+        int perThread = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<String>>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int blockSize = t % 2 == 0 ? 1 : 5;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    List<String> codes = new ArrayList<>();
+                    while (codes.size() < perThread) {
+                        codes.addAll(allocator.allocate(MembershipCodeAllocator.Kind.STUDENT, blockSize));
+                    }
+                    return codes;
+                }));
+            }
+            start.countDown();
+
+            List<String> all = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                List<String> codes = result.get(30, TimeUnit.SECONDS);
+                // Each call's block is increasing, and so is a single thread's sequence of calls
+                assertThat(codes).isSortedAccordingTo((a, b) -> Long.compare(number(a), number(b)));
+                all.addAll(codes);
+            }
+            assertThat(all).hasSize(threads * perThread).doesNotHaveDuplicates();
+            long lowest = all.stream().mapToLong(MembershipCodeAllocatorTest::number).min().orElseThrow();
+            long highest = all.stream().mapToLong(MembershipCodeAllocatorTest::number).max().orElseThrow();
+            assertThat(highest - lowest + 1).as("no gaps").isEqualTo(all.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void codeEnteredByHandAheadOfTheCounterIsSkipped() {
+        MembershipCodeAllocator.Kind kind = MembershipCodeAllocator.Kind.MEMBER;
+        long last = Long.parseLong(allocator.allocate(kind).substring("SEWAM".length()));
+        Integer memberId = jdbcTemplate.queryForObject("SELECT MIN(member_id) FROM members", Integer.class);
+        String original = jdbcTemplate.queryForObject("SELECT membership_code FROM members WHERE member_id = ?",
+                String.class, memberId);
+        String manual = kind.format(last + 2);
+        jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?", manual, memberId);
+        try {
+            List<String> codes = allocator.allocate(kind, 3);
+
+            assertThat(codes).doesNotContain(manual)
+                    .containsExactly(kind.format(last + 1), kind.format(last + 3), kind.format(last + 4));
+        } finally {
+            jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?", original, memberId);
+        }
+    }
+
+    @Test
+    void highestStoredCodeSkipsCodesThatAreNotANumber() {
+        MembershipCodeAllocator.Kind kind = MembershipCodeAllocator.Kind.MEMBER;
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT member_id FROM members ORDER BY member_id LIMIT 3",
+                Integer.class);
+        List<Map<String, Object>> original = jdbcTemplate.queryForList(
+                "SELECT member_id, membership_code FROM members WHERE member_id IN (?, ?, ?)", ids.toArray());
+        jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?", "SEWAM9000000", ids.get(0));
+        jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?", "SEWAMX9999999", ids.get(1));
+        // Too long for a BIGINT
+        jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?", "SEWAM" + "9".repeat(20),
+                ids.get(2));
+        try {
+            // A fresh allocator seeds its counter from the stored codes
+            MembershipCodeAllocator fresh = new MembershipCodeAllocator(jdbcTemplate, tableStatistics);
+
+            assertThat(fresh.allocate(kind)).isEqualTo("SEWAM9000001");
+        } finally {
+            for (Map<String, Object> row : original) {
+                jdbcTemplate.update("UPDATE members SET membership_code = ? WHERE member_id = ?",
+                        row.get("membership_code"), row.get("member_id"));
+            }
+        }
+    }
+
+    @Test
+    void parallelBulkApprovalsStoreUniqueCodes() throws Exception {
+        int batches = 8;
+        int perBatch = 4;
+        List<Map<String, Object>> original = jdbcTemplate.queryForList(
+                "SELECT member_id, membership_code, membership_status FROM members ORDER BY member_id LIMIT ?",
+                batches * perBatch);
+        List<Integer> ids = original.stream().map(row -> ((Number) row.get("member_id")).intValue()).toList();
+        for (Integer id : ids) {
+            jdbcTemplate.update("UPDATE members SET membership_code = NULL, membership_status = 'PENDING' "
+                    + "WHERE member_id = ?", id);
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(batches);
+        try {
+            List<Future<?>> approvals = new ArrayList<>();
+            for (int b = 0; b < batches; b++) {
+                // Each batch overlaps the next one by a member
+                List<Integer> batch = new ArrayList<>();
+                for (int i = 0; i <= perBatch; i++) {
+                    batch.add(ids.get((b * perBatch + i) % ids.size()));
+                }
+                approvals.add(pool.submit(() -> {
+                    start.await();
+                    return memberService.approveMembers(batch);
+                }));
+            }
+            start.countDown();
+            for (Future<?> approval : approvals) {
+                approval.get(30, TimeUnit.SECONDS);
+            }
+
+            List<String> approved = jdbcTemplate.queryForList("SELECT membership_code FROM members WHERE member_id IN ("
+                    + String.join(", ", ids.stream().map(String::valueOf).toList()) + ")", String.class);
+            assertThat(approved).hasSize(ids.size()).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(jdbcTemplate.queryForList("SELECT membership_code FROM members WHERE membership_code IS NOT NULL "
+                    + "GROUP BY membership_code HAVING COUNT(*) > 1", String.class)).isEmpty();
+        } finally {
+            pool.shutdownNow();
+            for (Map<String, Object> row : original) {
+                jdbcTemplate.update("UPDATE members SET membership_code = ?, membership_status = ? WHERE member_id = ?",
+                        row.get("membership_code"), row.get("membership_status"), row.get("member_id"));
+            }
+            // The setup and restore bypass the services
+            dashboardStatsService.reconcile();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sewa.common.service;
+
+import com.sewa.common.dto.ApproximatePage;
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.entity.Member;
+import com.sewa.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PageCounterTest {
+
+    private static final Pageable SECOND_PAGE = PageRequest.of(1, 2);
+
+    private final TableStatistics tableStatistics = mock(TableStatistics.class);
+    private final MockEnvironment environment = new MockEnvironment();
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    private PageCounter counter(long ttlSeconds) {
+        return new PageCounter(tableStatistics, environment, "EXACT", ttlSeconds);
+    }
+
+    /** A full page with more rows behind it, and a COUNT(*) answering 42 */
+    private Page<String> page(PageCounter counter, String filterKey, String requested, Pageable pageable) {
+        return counter.page("members", "members", filterKey, requested, pageable,
+                () -> new SliceImpl<>(List.of("a", "b"), pageable, true),
+                () -> {
+                    countQueries.incrementAndGet();
+                    return 42;
+                });
+    }
+
+    @Test
+    void exactCountsOnEveryRequest() {
+        PageCounter counter = counter(60);
+
+        Page<String> first = page(counter, null, null, SECOND_PAGE);
+        page(counter, null, null, SECOND_PAGE);
+
+        assertThat(first).isNotInstanceOf(ApproximatePage.class);
+        assertThat(first.getTotalElements()).isEqualTo(42);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void firstPageHoldingEverythingNeedsNoCount() {
+        Pageable firstPage = PageRequest.of(0, 20);
+
+        Page<String> page = counter(60).page("members", "members", null, "exact", firstPage,
+                () -> new SliceImpl<>(List.of("a", "b", "c"), firstPage, false),
+                countQueries::incrementAndGet);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    void strategyComesFromTheRequestThenTheEndpointThenTheDefault() {
+        PageCounter counter = counter(60);
+        environment.setProperty("sewa.pagination.count-strategy.members", "CACHED");
+
+        page(counter, null, null, SECOND_PAGE);
+        page(counter, null, null, SECOND_PAGE);
+        assertThat(countQueries).as("endpoint default CACHED").hasValue(1);
+
+        page(counter, null, "exact", SECOND_PAGE);
+        assertThat(countQueries).as("?count=exact overrides it").hasValue(2);
+
+        page(counter, null, "bogus", SECOND_PAGE);
+        assertThat(countQueries).as("unknown values fall back to the endpoint").hasValue(2);
+    }
+
+    @Test
+    void cachedCountIsReusedPerFilterUntilItsTableChanges() {
+        PageCounter counter = counter(60);
+
+        Page<String> cached = page(counter, null, "cached", SECOND_PAGE);
+        page(counter, null, "cached", SECOND_PAGE);
+        assertThat(cached).isInstanceOf(ApproximatePage.class);
+        assertThat(cached.getTotalElements()).isEqualTo(42);
+        assertThat(countQueries).hasValue(1);
+
+        page(counter, "ACTIVE", "cached", SECOND_PAGE);
+        assertThat(countQueries).as("another filter combination has its own entry").hasValue(2);
+
+        counter.onEntityChanged(new EntityChangedEvent(new Student(), EntityChangedEvent.ChangeType.CREATED));
+        page(counter, null, "cached", SECOND_PAGE);
+        assertThat(countQueries).as("a write to another table keeps it").hasValue(2);
+
+        counter.onEntityChanged(new EntityChangedEvent(new Member(), EntityChangedEvent.ChangeType.CREATED));
+        page(counter, null, "cached", SECOND_PAGE);
+        page(counter, "ACTIVE", "cached", SECOND_PAGE);
+        assertThat(countQueries).as("a write to members drops every members entry").hasValue(4);
+    }
+
+    @Test
+    void withoutEntityEventsACachedCountLastsOnlyTheTtl() {
+        PageCounter counter = counter(0);
+
+        page(counter, null, "cached", SECOND_PAGE);
+        page(counter, null, "cached", SECOND_PAGE);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void estimatedUsesPlannerStatisticsOnlyWhenUnfiltered() {
+        PageCounter counter = counter(60);
+        when(tableStatistics.estimatedRowCount("members")).thenReturn(1_000L);
+
+        Page<String> estimated = page(counter, null, "estimated", SECOND_PAGE);
+        assertThat(estimated).isInstanceOf(ApproximatePage.class);
+        assertThat(estimated.getTotalElements()).isEqualTo(1_000);
+        assertThat(countQueries).hasValue(0);
+
+        Page<String> filtered = page(counter, "ACTIVE", "estimated", SECOND_PAGE);
+        assertThat(filtered.getTotalElements()).as("filtered: cached count").isEqualTo(42);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    void estimatedFallsBackToCachedWithoutStatistics() {
+        PageCounter counter = counter(60);
+        when(tableStatistics.estimatedRowCount("members")).thenReturn(null);
+
+        page(counter, null, "estimated", SECOND_PAGE);
+        page(counter, null, "estimated", SECOND_PAGE);
+
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    void inexactTotalIsNeverBelowTheRowsAlreadySeen() {
+        PageCounter counter = counter(60);
+        // Stale estimate: page 2 of 2 with a next page proves at least 5 rows
+        when(tableStatistics.estimatedRowCount("members")).thenReturn(1L);
+
+        Page<String> page = page(counter, null, "estimated", SECOND_PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.hasNext()).isTrue();
+    }
+}
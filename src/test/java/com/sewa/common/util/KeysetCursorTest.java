@@ -0,0 +1,89 @@
+package com.sewa.common.util;
+
+import com.sewa.exception.SewaException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final Map<String, Function<String, Object>> FIELDS = Map.of(
+            KeysetCursor.ID, Integer::valueOf,
+            "fullName", value -> value);
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Window<String> lastRowAt(Map<String, Object> keys) {
+        return Window.from(List.of("a", "b"), i -> ScrollPosition.forward(keys), true);
+    }
+
+    @Test
+    void firstPageFallsBackToIdForUnknownSortFields() {
+        KeysetCursor.Request request = KeysetCursor.resolve(null, "password", "desc", FIELDS);
+
+        assertThat(request.sort()).isEqualTo(Sort.by(Sort.Direction.DESC, KeysetCursor.ID));
+        assertThat(request.position()).isEqualTo(ScrollPosition.keyset());
+    }
+
+    @Test
+    void cursorRoundTripsSortAndTypedKeys() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "fullName").and(Sort.by(Sort.Direction.DESC, KeysetCursor.ID));
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("fullName", "Ram & Sita = Hembram / ü");
+        keys.put(KeysetCursor.ID, 42);
+
+        String cursor = KeysetCursor.next(lastRowAt(keys), sort);
+        KeysetCursor.Request request = KeysetCursor.resolve(cursor, "id", "asc", FIELDS);
+
+        // The cursor wins over the sort parameters of the follow-up request
+        assertThat(request.sort()).isEqualTo(sort);
+        assertThat(request.position()).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) request.position()).getKeys()).isEqualTo(keys);
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        Window<String> last = Window.from(List.of("a"), i -> ScrollPosition.forward(Map.of(KeysetCursor.ID, 1)), false);
+
+        assertThat(KeysetCursor.next(last, Sort.by(KeysetCursor.ID))).isNull();
+    }
+
+    @Test
+    void tamperedOrMalformedCursorsAreRejectedAsBadInput() {
+        List<String> cursors = List.of(
+                "not base64 !",
+                encode("fullName"),
+                encode("fullName&SIDEWAYS&fullName=a&id=1"),
+                encode("password&ASC&password=x&id=1"),
+                encode("fullName&ASC&password=x&id=1"),
+                encode("id&ASC&id=abc"),
+                encode("id&ASC&id"),
+                // Keys must match the sort exactly or the seek predicate cannot be built
+                encode("fullName&ASC&id=1"),
+                encode("fullName&ASC&fullName=a"),
+                encode("id&ASC&fullName=a&id=1"),
+                encode("id&ASC"));
+
+        for (String cursor : cursors) {
+            assertThatThrownBy(() -> KeysetCursor.resolve(cursor, null, null, FIELDS))
+                    .as(cursor)
+                    .isInstanceOf(SewaException.class)
+                    .hasMessage("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sewa.config;
+
+import com.sewa.common.service.TableVersions;
+import com.sewa.repository.ChapterRepository;
+import com.sewa.repository.MemberRepository;
+import com.sewa.service.ChapterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private ChapterRepository chapterRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void everyVersionedTableHasAWorkingVersionQuery() {
+        assertThat(ConditionalGetFilter.versionedTables()).isNotEmpty();
+        for (String table : ConditionalGetFilter.versionedTables()) {
+            TableVersions.Version version = tableVersions.version(table);
+            assertThat(version.count()).as(table)
+                    .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+            if (version.count() > 0) {
+                // A zero timestamp would leave in-place updates out of the validator
+                assertThat(version.lastModified()).as(table).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void tableWithoutTimestampsGetsACountOnlyVersion() {
+        TableVersions.Version version = tableVersions.version("chapter_members");
+
+        assertThat(version.count())
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chapter_members", Long.class));
+        assertThat(version.lastModified()).isZero();
+    }
+
+    @Test
+    void changingAChapterExecutiveChangesTheChapterValidator() throws Exception {
+        Integer chapterId = chapterRepository.findAll().get(0).getId();
+        Integer memberId = memberRepository.findAll().get(0).getId();
+        String uri = "/api/v1/chapters/" + chapterId;
+
+        chapterService.assignMember(chapterId, memberId, "Secretary");
+        try {
+            String assigned = etag(uri);
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, assigned))
+                    .andExpect(status().isNotModified());
+
+            // Only role_in_chapter changes: no count or timestamp of chapter_members moves
+            chapterService.updateMemberRole(chapterId, memberId, "Treasurer");
+            String renamed = etag(uri);
+            assertThat(renamed).isNotEqualTo(assigned);
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, assigned))
+                    .andExpect(status().isOk());
+        } finally {
+            chapterService.removeMember(chapterId, memberId);
+        }
+    }
+
+    private String etag(String uri) throws Exception {
+        return mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
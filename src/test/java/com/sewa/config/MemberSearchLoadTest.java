@@ -0,0 +1,134 @@
+package com.sewa.config;
+
+import com.sewa.SantalEngineersWelfareAssociationApplication;
+import com.sewa.security.CustomUserDetailsService;
+import com.sewa.security.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load comparison of the two execution modes on the member search: the same
+ * app is started once on platform threads and once on virtual threads, each
+ * with the production pool size of 5 connections, and hit by many concurrent
+ * clients. Both must serve every request; throughput and latency of each mode
+ * are printed for comparison.
+ */
+class MemberSearchLoadTest {
+
+    private static final int CLIENTS = 100;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final String[] QUERIES = { "a", "mem", "sin", "e" };
+
+    private record Result(String mode, int requests, long millis, long p50, long p99, ConcurrentHashMap<Integer, AtomicInteger> statuses) {
+        double throughput() {
+            return requests * 1000.0 / millis;
+        }
+
+        int status(int code) {
+            AtomicInteger count = statuses.get(code);
+            return count != null ? count.get() : 0;
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String mode = virtualThreads ? "virtual" : "platform";
+        return new SpringApplicationBuilder(SantalEngineersWelfareAssociationApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        // Its own database: the shared test context keeps "sewa" open
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=5",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+    }
+
+    private static Result load(String mode, ConfigurableApplicationContext context) throws Exception {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String bearer = "Bearer " + context.getBean(JwtUtils.class)
+                .generateToken(context.getBean(CustomUserDetailsService.class).loadUserByUsername("superadmin"));
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        ConcurrentHashMap<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+
+        // Warm-up: JIT, caches and the connection pool are not what is compared
+        for (int i = 0; i < 50; i++) {
+            client.send(request(port, bearer, i), HttpResponse.BodyHandlers.discarding());
+        }
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientNo = c;
+                running.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        int n = clientNo * REQUESTS_PER_CLIENT + r;
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request(port, bearer, n),
+                                HttpResponse.BodyHandlers.discarding());
+                        latencies[n] = System.nanoTime() - sent;
+                        statuses.computeIfAbsent(response.statusCode(), code -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        Arrays.sort(latencies);
+        return new Result(mode, latencies.length, millis, latencies[latencies.length / 2] / 1_000_000,
+                latencies[latencies.length * 99 / 100] / 1_000_000, statuses);
+    }
+
+    private static HttpRequest request(String port, String bearer, int n) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/members?size=20&query="
+                        + QUERIES[n % QUERIES.length] + "&page=" + (n % 3)))
+                .header("Authorization", bearer)
+                .timeout(Duration.ofSeconds(30))
+                .GET().build();
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            return load(virtualThreads ? "virtual" : "platform", context);
+        }
+    }
+
+    @Test
+    void bothModesServeConcurrentSearchesWithinThePool() throws Exception {
+        List<Result> results = List.of(run(false), run(true));
+
+        System.out.printf("%nMember search, %d clients x %d requests, pool of 5%n", CLIENTS, REQUESTS_PER_CLIENT);
+        System.out.printf("%-9s %10s %8s %8s %s%n", "mode", "req/s", "p50 ms", "p99 ms", "statuses");
+        for (Result result : results) {
+            System.out.printf("%-9s %10.0f %8d %8d %s%n", result.mode(), result.throughput(), result.p50(),
+                    result.p99(), result.statuses());
+        }
+
+        for (Result result : results) {
+            assertThat(result.status(200)).as(result.mode()).isEqualTo(result.requests());
+        }
+    }
+}
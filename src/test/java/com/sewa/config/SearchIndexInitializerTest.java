@@ -0,0 +1,79 @@
+package com.sewa.config;
+
+import com.sewa.dto.response.MemberResponse;
+import com.sewa.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexInitializerTest {
+
+    @Autowired
+    private SearchIndexInitializer searchIndexInitializer;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void h2FallsBackToIlikeWithoutTouchingTheSchema() {
+        assertThat(searchIndexInitializer.isTrigramEnabled()).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.indexes WHERE index_name LIKE '%trgm%'", Long.class))
+                .isZero();
+
+        Page<MemberResponse> found = memberService.searchMembers(null, null, null, null, "a",
+                PageRequest.of(0, 20), null);
+        assertThat(found.getContent()).isNotEmpty().allSatisfy(member -> assertThat(
+                (member.getFullName() + member.getMembershipCode() + member.getPhone()).toLowerCase())
+                .contains("a"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidIndexLeftByAFailedConcurrentBuildIsDroppedAndRebuilt() {
+        JdbcTemplate postgres = mock(JdbcTemplate.class);
+        when(postgres.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(postgres.queryForList(anyString(), eq(Boolean.class), eq("idx_members_full_name_trgm")))
+                .thenReturn(List.of(false));
+        when(postgres.queryForList(anyString(), eq(Boolean.class), eq("idx_members_membership_code_trgm")))
+                .thenReturn(List.of(true));
+        when(postgres.queryForList(anyString(), eq(Boolean.class), eq("idx_members_phone_trgm")))
+                .thenReturn(List.of());
+        SearchIndexInitializer initializer = new SearchIndexInitializer(postgres, "auto");
+
+        initializer.initialize();
+
+        InOrder rebuild = inOrder(postgres);
+        rebuild.verify(postgres).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_members_full_name_trgm");
+        rebuild.verify(postgres).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_full_name_trgm"));
+        verify(postgres, never()).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_members_membership_code_trgm");
+        verify(postgres, never()).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_members_phone_trgm");
+        verify(postgres, times(3)).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_"));
+        assertThat(initializer.isTrigramEnabled()).isTrue();
+    }
+}
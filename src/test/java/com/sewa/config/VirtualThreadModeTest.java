@@ -0,0 +1,130 @@
+package com.sewa.config;
+
+import com.sewa.common.aspect.DatabaseAdmissionAspect;
+import com.sewa.security.CustomUserDetailsService;
+import com.sewa.security.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.interceptor.BeanFactoryTransactionAttributeSourceAdvisor;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Virtual-thread mode: admission control is on and Open Session in View is
+ * off, so every endpoint must finish its database work inside the service or
+ * repository call it makes.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private String bearer() {
+        return "Bearer " + jwtUtils.generateToken(userDetailsService.loadUserByUsername("superadmin"));
+    }
+
+    @Test
+    void openSessionInViewIsOff() {
+        assertThat(context.getBean(Environment.class).getProperty("spring.jpa.open-in-view")).isEqualTo("false");
+        assertThat(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    void admissionRunsOutsideTheTransaction() {
+        DatabaseAdmissionAspect aspect = context.getBean(DatabaseAdmissionAspect.class);
+        BeanFactoryTransactionAttributeSourceAdvisor transactions = context
+                .getBean(BeanFactoryTransactionAttributeSourceAdvisor.class);
+
+        assertThat(AnnotationAwareOrderComparator.INSTANCE.compare(aspect, transactions)).isNegative();
+    }
+
+    @Test
+    void everyGetEndpointWorksWithoutOpenSessionInView() throws Exception {
+        String bearer = bearer();
+        List<String> failures = new ArrayList<>();
+        RequestMappingHandlerMapping mapping = context.getBean("requestMappingHandlerMapping",
+                RequestMappingHandlerMapping.class);
+        for (RequestMappingInfo info : mapping.getHandlerMethods().keySet()) {
+            if (!info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                continue;
+            }
+            for (String pattern : info.getPatternValues()) {
+                if (!pattern.startsWith("/api/")) {
+                    continue;
+                }
+                String uri = pattern.replaceAll("\\{[^}]+}", "1");
+                MvcResult result = mockMvc.perform(get(uri).header("Authorization", bearer)).andReturn();
+                if (result.getRequest().isAsyncStarted()) {
+                    result = mockMvc.perform(asyncDispatch(result)).andReturn();
+                }
+                if (result.getResponse().getStatus() >= 500) {
+                    failures.add(uri + " -> " + result.getResponse().getStatus() + " "
+                            + result.getResponse().getContentAsString());
+                }
+            }
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void authenticatedStreamIsAuthorizedAgainOnItsAsyncDispatch() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/messages/stream").header("Authorization", bearer()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.count").isNumber());
+    }
+
+    @Test
+    void streamingExportIsAdmittedAndCompletes() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/notices/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.count").isNumber());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metrics = (Map<String, Object>) (Map<?, ?>) context
+                .getBean(DatabaseAdmissionAspect.class).getMetrics();
+        assertThat(metrics.get("exportAvailable")).isEqualTo(metrics.get("exportMaxConcurrent"));
+    }
+}
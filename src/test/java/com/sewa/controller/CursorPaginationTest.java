@@ -0,0 +1,58 @@
+package com.sewa.controller;
+
+import com.sewa.security.CustomUserDetailsService;
+import com.sewa.security.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CursorPaginationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void malformedCursorIsABadRequestOnEveryCursorEndpoint() throws Exception {
+        String bearer = "Bearer " + jwtUtils.generateToken(userDetailsService.loadUserByUsername("superadmin"));
+        List<String> cursors = List.of("%%%", encode("fullName&ASC&id=1"), encode("id&ASC&id=x"));
+        for (String endpoint : List.of("/api/v1/members/cursor", "/api/v1/students/cursor", "/api/v1/fees/cursor")) {
+            for (String cursor : cursors) {
+                mockMvc.perform(get(endpoint).param("cursor", cursor).header("Authorization", bearer))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message").value("Invalid cursor"));
+            }
+        }
+    }
+
+    @Test
+    void validCursorIsAccepted() throws Exception {
+        String bearer = "Bearer " + jwtUtils.generateToken(userDetailsService.loadUserByUsername("superadmin"));
+        mockMvc.perform(get("/api/v1/members/cursor").param("cursor", encode("fullName&DESC&fullName=x&id=5"))
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,130 @@
+package com.sewa.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sewa.entity.User;
+import com.sewa.repository.UserRepository;
+import com.sewa.security.CustomUserDetailsService;
+import com.sewa.security.JwtUtils;
+import com.sewa.support.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Associations are LAZY, so every listing must fetch what it renders up front:
+ * the statement count of a request may not grow with the rows it returns.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListingStatementCountTest {
+
+    /** Page query, count query, and room for one batch of remaining proxies */
+    private static final long MAX_STATEMENTS = 4;
+    private static final int MIN_ROWS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementCounter statements;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        statements = new StatementCounter(entityManagerFactory);
+        bearer = "Bearer " + jwtUtils.generateToken(userDetailsService.loadUserByUsername("superadmin"));
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Integer.class);
+        for (int i = count; i < 40; i++) {
+            jdbcTemplate.update("INSERT INTO audit_logs (user_id, action, entity, entity_id, created_at) "
+                    + "SELECT user_id, 'UPDATE', 'Member', ?, CURRENT_TIMESTAMP FROM users WHERE username = 'superadmin'", i);
+        }
+    }
+
+    private StatementCounter.Counted<String> fetch(String uri) throws Exception {
+        return statements.count(() -> mockMvc.perform(get(uri).header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    void pagedListingsDoNotLoadAssociationsPerRow() throws Exception {
+        List<String> listings = List.of("/api/v1/members", "/api/v1/members/cursor", "/api/v1/students",
+                "/api/v1/students/cursor", "/api/v1/fees", "/api/v1/fees/cursor", "/api/v1/contents",
+                "/api/v1/chapters", "/api/v1/audit-logs");
+        for (String listing : listings) {
+            fetch(listing + "?size=50");
+            StatementCounter.Counted<String> small = fetch(listing + "?size=2");
+            StatementCounter.Counted<String> large = fetch(listing + "?size=50");
+
+            int rows = JsonPath.<Integer>read(large.result(), "$.data.content.length()");
+            assertThat(rows).as(listing + " rows").isGreaterThanOrEqualTo(MIN_ROWS);
+            assertThat(large.statements()).as(listing).isLessThanOrEqualTo(MAX_STATEMENTS)
+                    .isLessThanOrEqualTo(small.statements() + 1);
+        }
+    }
+
+    @Test
+    void unpagedListingsRunAConstantNumberOfStatements() throws Exception {
+        for (String listing : List.of("/api/v1/notices", "/api/v1/messages", "/api/v1/calendar/events",
+                "/api/v1/representatives/active")) {
+            fetch(listing);
+            StatementCounter.Counted<String> counted = fetch(listing);
+
+            int rows = JsonPath.<Integer>read(counted.result(), "$.data.length()");
+            assertThat(rows).as(listing + " rows").isGreaterThanOrEqualTo(MIN_ROWS);
+            assertThat(counted.statements()).as(listing).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void rolesAndPermissionsLoadOnlyWithTheAuthoritiesGraph() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        StatementCounter.Counted<Boolean> plain = statements.count(() -> tx.execute(status -> {
+            User user = userRepository.findByUsername("superadmin").orElseThrow();
+            return Hibernate.isInitialized(user.getRoles());
+        }));
+        assertThat(plain.result()).isFalse();
+        assertThat(plain.statements()).isEqualTo(1);
+
+        StatementCounter.Counted<Integer> withAuthorities = statements.count(() -> tx.execute(status -> {
+            User user = userRepository.findWithAuthoritiesByUsername("superadmin").orElseThrow();
+            return user.getRoles().stream().mapToInt(role -> role.getPermissions().size()).sum();
+        }));
+        assertThat(withAuthorities.result()).isPositive();
+        assertThat(withAuthorities.statements()).isEqualTo(1);
+    }
+}
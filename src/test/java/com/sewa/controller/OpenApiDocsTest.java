@@ -0,0 +1,60 @@
+package com.sewa.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Endpoints that write cached bytes must still document the JSON they return. */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpenApiDocsTest {
+
+    private static final Map<String, String> BYTE_ENDPOINTS = Map.ofEntries(
+            Map.entry("/api/v1/master", "MasterDataApiResponse"),
+            Map.entry("/api/v1/dropdowns/roles", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/chapters", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/permissions", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/member-status", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/student-status", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/chapter-types", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/content-types", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/visibility-types", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/calendar-event-types", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/designations", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/payment-status", "DropdownListApiResponse"),
+            Map.entry("/api/v1/dropdowns/genders", "DropdownListApiResponse"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void cachedByteEndpointsDocumentTheirJsonSchema() throws Exception {
+        for (Map.Entry<String, String> endpoint : BYTE_ENDPOINTS.entrySet()) {
+            String ok = "$.paths['" + endpoint.getKey() + "'].get.responses['200'].content['application/json'].schema";
+            mockMvc.perform(get("/v3/api-docs"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(ok + "['$ref']").value(endsWith("/" + endpoint.getValue())))
+                    .andExpect(jsonPath("$.components.schemas." + endpoint.getValue() + ".properties.data").exists());
+            if (endpoint.getKey().startsWith("/api/v1/dropdowns/")) {
+                mockMvc.perform(get("/v3/api-docs"))
+                        .andExpect(jsonPath("$.paths['" + endpoint.getKey() + "'].get.responses['304']").exists());
+            }
+        }
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(jsonPath("$.components.schemas.DropdownListApiResponse.properties.data.items['$ref']")
+                        .value(endsWith("/DropdownResponse")))
+                .andExpect(jsonPath("$.components.schemas.MasterDataApiResponse.properties.data['$ref']")
+                        .value(endsWith("/MasterDataResponse")));
+    }
+}
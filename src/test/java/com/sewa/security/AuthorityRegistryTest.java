@@ -0,0 +1,70 @@
+package com.sewa.security;
+
+import com.sewa.benchmark.BenchmarkTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AuthorityRegistryTest {
+
+    private static final int REQUESTS = 200_000;
+
+    private final AuthorityRegistry registry = new AuthorityRegistry(1024);
+    private final List<String> roles = List.of("ROLE_SUPER_ADMIN");
+    private final List<String> permissions = BenchmarkTokens.PERMISSIONS;
+
+    /** Keeps every result reachable until the next one, so nothing is optimized away */
+    private volatile List<GrantedAuthority> sink;
+
+    /** What the filter did per request before the registry */
+    private List<GrantedAuthority> buildFresh() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        roles.forEach(role -> authorities.add(new SimpleGrantedAuthority(role)));
+        permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
+        return authorities;
+    }
+
+    private long bytesPerRequest(Supplier<List<GrantedAuthority>> request) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink = request.get();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink = request.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / REQUESTS;
+    }
+
+    @Test
+    void sameProfileSharesOneImmutableList() {
+        List<GrantedAuthority> first = registry.authoritiesFor(roles, permissions);
+        List<GrantedAuthority> second = registry.authoritiesFor(List.copyOf(roles), new ArrayList<>(permissions));
+
+        assertThat(second).isSameAs(first).hasSize(permissions.size() + 1);
+        assertThat(registry.authoritiesFor(List.of("ROLE_MEMBER"), List.of("FEE_VIEW")).get(1))
+                .isSameAs(first.get(1 + permissions.indexOf("FEE_VIEW")));
+    }
+
+    @Test
+    void internedAuthoritiesCutPerRequestGarbage() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        long fresh = bytesPerRequest(this::buildFresh);
+        long interned = bytesPerRequest(() -> registry.authoritiesFor(roles, permissions));
+
+        // A SUPER_ADMIN profile: one list plus 59 authorities before, at most a lookup key now
+        assertThat(fresh).isGreaterThan(1_000);
+        assertThat(interned).isLessThan(fresh / 10);
+    }
+}
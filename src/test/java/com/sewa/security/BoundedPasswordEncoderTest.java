@@ -0,0 +1,101 @@
+package com.sewa.security;
+
+import com.sewa.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    /** Hashes only once released, so the pool can be held saturated */
+    private static class BlockingEncoder implements PasswordEncoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private final BlockingEncoder delegate = new BlockingEncoder();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        callers.shutdownNow();
+        encoder.shutdown();
+    }
+
+    private Map<String, Object> metrics() {
+        return encoder.getMetrics();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!metrics().get("queueDepth").equals(depth) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void saturatedPoolFailsFastWith429AndCountsTheRejection() throws Exception {
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Boolean> queued = callers.submit(() -> encoder.matches("second", "hashed:second"));
+        awaitQueueDepth(1);
+
+        // Thread busy, queue full: the third caller is turned away without waiting
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(metrics()).containsEntry("rejected", 1L);
+
+        delegate.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void metricsReportQueueDepthAndCompletedHashes() throws Exception {
+        assertThat(metrics()).containsEntry("threads", 1).containsEntry("queueDepth", 0)
+                .containsEntry("queueRemaining", 1);
+
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        awaitQueueDepth(1);
+        assertThat(metrics()).containsEntry("active", 1).containsEntry("queueDepth", 1)
+                .containsEntry("queueRemaining", 0);
+
+        delegate.release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        awaitQueueDepth(0);
+        assertThat(metrics()).containsEntry("queueDepth", 0).containsEntry("rejected", 0L);
+        assertThat((Long) metrics().get("completed")).isGreaterThanOrEqualTo(1L);
+    }
+}
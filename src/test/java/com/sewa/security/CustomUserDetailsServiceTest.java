@@ -0,0 +1,86 @@
+package com.sewa.security;
+
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.entity.Role;
+import com.sewa.repository.PermissionRepository;
+import com.sewa.repository.RoleRepository;
+import com.sewa.support.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomUserDetailsServiceTest {
+
+    private static final String PERMISSION = "AUDIT_LOG_VIEW";
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        statements = new StatementCounter(entityManagerFactory);
+        userDetailsService.onEntityChanged(new EntityChangedEvent(new Role(), EntityChangedEvent.ChangeType.UPDATED));
+    }
+
+    private static List<String> authorities(UserDetails user) {
+        return user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    @Test
+    void missLoadsUserRolesAndPermissionsInOneStatementAndHitInNone() throws Exception {
+        StatementCounter.Counted<UserDetails> miss = statements
+                .count(() -> userDetailsService.loadUserByUsername("superadmin"));
+        // Authorities are read outside any session: everything must already be loaded
+        assertThat(authorities(miss.result())).contains("ROLE_SUPER_ADMIN", PERMISSION);
+        assertThat(miss.statements()).isEqualTo(1);
+
+        StatementCounter.Counted<UserDetails> hit = statements
+                .count(() -> userDetailsService.loadUserByUsername("superadmin"));
+        assertThat(hit.result()).isSameAs(miss.result());
+        assertThat(hit.statements()).isZero();
+    }
+
+    @Test
+    void editingOnlyARolesPermissionsDropsCachedAuthorities() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        assertThat(authorities(userDetailsService.loadUserByUsername("superadmin"))).contains(PERMISSION);
+
+        tx.executeWithoutResult(status -> roleRepository.findByRoleName("ROLE_SUPER_ADMIN").orElseThrow()
+                .getPermissions().removeIf(p -> PERMISSION.equals(p.getPermissionCode())));
+        try {
+            assertThat(authorities(userDetailsService.loadUserByUsername("superadmin"))).doesNotContain(PERMISSION);
+        } finally {
+            tx.executeWithoutResult(status -> roleRepository.findByRoleName("ROLE_SUPER_ADMIN").orElseThrow()
+                    .getPermissions().add(permissionRepository.findAll().stream()
+                            .filter(p -> PERMISSION.equals(p.getPermissionCode())).findFirst().orElseThrow()));
+        }
+        assertThat(authorities(userDetailsService.loadUserByUsername("superadmin"))).contains(PERMISSION);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sewa.security;
+
+import com.sewa.common.event.EntityChangedEvent;
+import com.sewa.dto.request.AuthRequest;
+import com.sewa.entity.Role;
+import com.sewa.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordRehashTest {
+
+    private static final String USERNAME = "superadmin";
+    private static final String PASSWORD = "Admin@123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject("SELECT password_hash FROM users WHERE username = ?", String.class,
+                USERNAME);
+    }
+
+    @Test
+    void loginRehashesAHashBelowTheConfiguredCost() {
+        // As if stored before the cost factor was raised to the configured 10
+        jdbcTemplate.update("UPDATE users SET password_hash = ? WHERE username = ?",
+                new BCryptPasswordEncoder(4).encode(PASSWORD), USERNAME);
+        userDetailsService.onEntityChanged(new EntityChangedEvent(new Role(), EntityChangedEvent.ChangeType.UPDATED));
+        assertThat(storedHash()).startsWith("$2a$04$");
+
+        authService.login(new AuthRequest(USERNAME, PASSWORD));
+
+        String upgraded = storedHash();
+        assertThat(upgraded).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches(PASSWORD, upgraded)).isTrue();
+
+        // Already at the configured cost: a second login leaves the hash alone
+        userDetailsService.onEntityChanged(new EntityChangedEvent(new Role(), EntityChangedEvent.ChangeType.UPDATED));
+        authService.login(new AuthRequest(USERNAME, PASSWORD));
+        assertThat(storedHash()).isEqualTo(upgraded);
+    }
+}
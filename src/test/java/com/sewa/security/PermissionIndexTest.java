@@ -0,0 +1,78 @@
+package com.sewa.security;
+
+import com.sewa.entity.Permission;
+import com.sewa.repository.PermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PermissionIndexTest {
+
+    private final PermissionRepository repository = mock(PermissionRepository.class);
+    private final List<Permission> table = new ArrayList<>();
+    private PermissionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        table.add(permission(1, "MEMBER_VIEW"));
+        table.add(permission(2, "MEMBER_UPDATE"));
+        table.add(permission(5, "FEE_VIEW"));
+        when(repository.findAll()).thenAnswer(invocation -> List.copyOf(table));
+        index = new PermissionIndex(repository);
+        index.load();
+    }
+
+    private static Permission permission(int id, String code) {
+        return Permission.builder().id(id).permissionCode(code).build();
+    }
+
+    private static String bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    }
+
+    @Test
+    void roundTripsKnownPermissions() {
+        String encoded = index.encode(List.of("FEE_VIEW", "MEMBER_VIEW"));
+
+        assertThat(index.decode(encoded)).containsExactly("MEMBER_VIEW", "FEE_VIEW");
+        assertThat(index.encode(List.of("MEMBER_VIEW", "NOT_A_PERMISSION"))).isNull();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void deletedPermissionIsSkippedWithoutReloading() {
+        // Id 3 was allocated before 5 and no longer exists
+        for (int i = 0; i < 100; i++) {
+            assertThat(index.decode(bits(1, 3))).containsExactly("MEMBER_VIEW");
+        }
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void idAboveTheIndexReloadsOnceThenIsRemembered() {
+        table.add(permission(7, "FEE_PAY"));
+
+        assertThat(index.decode(bits(2, 7))).containsExactly("MEMBER_UPDATE", "FEE_PAY");
+        verify(repository, times(2)).findAll();
+
+        // Id 9 was added and deleted again before this instance saw it
+        for (int i = 0; i < 100; i++) {
+            assertThat(index.decode(bits(1, 9))).containsExactly("MEMBER_VIEW");
+        }
+        verify(repository, times(3)).findAll();
+    }
+}
@@ -0,0 +1,150 @@
+package com.sewa.security;
+
+import com.sewa.dto.request.AuthRequest;
+import com.sewa.dto.request.RefreshTokenRequest;
+import com.sewa.dto.response.AuthResponse;
+import com.sewa.exception.UnauthorizedException;
+import com.sewa.service.AuthService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RefreshTokenRotationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Value("${sewa.jwt.secret}")
+    private String jwtSecret;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthResponse login() {
+        return authService.login(new AuthRequest("superadmin", "Admin@123"));
+    }
+
+    private AuthResponse refresh(String refreshToken) {
+        return authService.refresh(new RefreshTokenRequest(refreshToken));
+    }
+
+    @Test
+    void concurrentRefreshWithOneTokenLetsExactlyOneWinAndThenRevokesTheFamily() throws Exception {
+        String presented = login().getRefreshToken();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<AuthResponse>> attempts = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                attempts.add(pool.submit(() -> {
+                    start.await();
+                    return refresh(presented);
+                }));
+            }
+            start.countDown();
+
+            List<AuthResponse> winners = new ArrayList<>();
+            List<Throwable> losers = new ArrayList<>();
+            for (Future<AuthResponse> attempt : attempts) {
+                try {
+                    winners.add(attempt.get(30, TimeUnit.SECONDS));
+                } catch (java.util.concurrent.ExecutionException e) {
+                    losers.add(e.getCause());
+                }
+            }
+
+            // The row lock serializes the attempts: one rotation, every other one is reuse
+            assertThat(winners).hasSize(1);
+            assertThat(losers).hasSize(threads - 1)
+                    .allSatisfy(e -> assertThat(e).isInstanceOf(UnauthorizedException.class)
+                            .hasMessage("Refresh token has already been used"));
+            // Reuse revoked the whole family, including the token the winner received
+            assertThatThrownBy(() -> refresh(winners.get(0).getRefreshToken()))
+                    .isInstanceOf(UnauthorizedException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void logoutEndsOnlyTheSessionOfThePresentedToken() {
+        AuthResponse laptop = login();
+        AuthResponse phone = login();
+
+        authService.logout("Bearer " + laptop.getToken());
+
+        assertThatThrownBy(() -> refresh(laptop.getRefreshToken())).isInstanceOf(UnauthorizedException.class);
+        AuthResponse rotated = refresh(phone.getRefreshToken());
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(phone.getRefreshToken());
+    }
+
+    @Test
+    void refreshRereadsTheUserInsteadOfTrustingTheCache() {
+        AuthResponse session = login();
+        // Warm the user-details cache, then deactivate behind its back (no JPA events)
+        assertThat(userDetailsService.loadUserByUsername("superadmin").isEnabled()).isTrue();
+        jdbcTemplate.update("UPDATE users SET is_active = false WHERE username = 'superadmin'");
+        try {
+            assertThatThrownBy(() -> refresh(session.getRefreshToken()))
+                    .isInstanceOf(UnauthorizedException.class)
+                    .hasMessageContaining("inactive");
+        } finally {
+            jdbcTemplate.update("UPDATE users SET is_active = true WHERE username = 'superadmin'");
+        }
+    }
+
+    @Test
+    void accessTokensAreShortLivedAndAnExpiredOneAsksTheClientToRefresh() throws Exception {
+        AuthResponse session = login();
+        Date expiresAt = jwtUtils.extractExpiration(session.getToken());
+        assertThat(expiresAt.getTime() - System.currentTimeMillis()).isBetween(0L, 15 * 60_000L);
+
+        long past = System.currentTimeMillis() - 60_000;
+        String expired = Jwts.builder().setSubject("superadmin").setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(past - 900_000)).setExpiration(new Date(past))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        mockMvc.perform(get("/api/v1/members").header("Authorization", "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+
+        String renewed = refresh(session.getRefreshToken()).getToken();
+        mockMvc.perform(get("/api/v1/members").header("Authorization", "Bearer " + renewed))
+                .andExpect(status().isOk());
+    }
+}
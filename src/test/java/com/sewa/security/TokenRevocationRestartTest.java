@@ -0,0 +1,64 @@
+package com.sewa.security;
+
+import com.sewa.entity.RevokedToken;
+import com.sewa.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Restart recovery against a real database: revocations written by one
+ * service instance are found by a fresh instance's bulk load, as after a
+ * restart, while expired rows are left out.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationRestartTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final List<String> written = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAllById(written);
+    }
+
+    private String jti() {
+        String jti = UUID.randomUUID().toString();
+        written.add(jti);
+        return jti;
+    }
+
+    @Test
+    void freshInstanceLoadsRevocationsPersistedBeforeTheRestart() {
+        String revoked = jti();
+        String expired = jti();
+        tokenRevocationService.revoke(revoked, System.currentTimeMillis() + 3_600_000);
+        // Expired while the instance was down: stays in the table until purged, but is not loaded
+        revokedTokenRepository.save(RevokedToken.builder().jti(expired)
+                .expiresAt(LocalDateTime.now().minusMinutes(1)).revokedAt(LocalDateTime.now().minusHours(1))
+                .build());
+
+        TokenRevocationService restarted = new TokenRevocationService(revokedTokenRepository, 1 << 16);
+        assertThat(restarted.isRevoked(revoked)).isFalse();
+        restarted.afterSingletonsInstantiated();
+
+        assertThat(restarted.isRevoked(revoked)).isTrue();
+        assertThat(restarted.isRevoked(expired)).isFalse();
+        assertThat(restarted.isRevoked(UUID.randomUUID().toString())).isFalse();
+    }
+}
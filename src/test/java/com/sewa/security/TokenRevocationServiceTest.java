@@ -0,0 +1,109 @@
+package com.sewa.security;
+
+import com.sewa.entity.RevokedToken;
+import com.sewa.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    private static RevokedToken stored(String jti, LocalDateTime expiresAt) {
+        return RevokedToken.builder().jti(jti).expiresAt(expiresAt).revokedAt(LocalDateTime.now()).build();
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        TokenRevocationService service = new TokenRevocationService(repository, 1 << 16);
+        String jti = UUID.randomUUID().toString();
+
+        service.revoke(jti, inOneHour());
+
+        assertThat(service.isRevoked(jti)).isTrue();
+        assertThat(service.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(service.isRevoked(null)).isFalse();
+        verify(repository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenRevocationService service = new TokenRevocationService(repository, 1 << 16);
+
+        service.revoke("expired", System.currentTimeMillis() - 1);
+
+        assertThat(service.isRevoked("expired")).isFalse();
+        verify(repository, never()).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void bloomFilterFalsePositivesStayRareAndNeverLeakThrough() {
+        int bits = 1 << 16;
+        int revokedCount = 2_000;
+        TokenRevocationService service = new TokenRevocationService(repository, bits);
+        for (int i = 0; i < revokedCount; i++) {
+            service.revoke(UUID.randomUUID().toString(), inOneHour());
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            String jti = UUID.randomUUID().toString();
+            if (service.mightBeRevoked(jti)) {
+                falsePositives++;
+            }
+            // The exact set behind the filter removes every false positive
+            assertThat(service.isRevoked(jti)).isFalse();
+        }
+
+        // k=4, n=2000, m=65536: theoretical rate (1 - e^(-kn/m))^k is about 0.02 %
+        double expected = Math.pow(1 - Math.exp(-4.0 * revokedCount / bits), 4);
+        assertThat((double) falsePositives / probes).isLessThan(expected * 5 + 0.0005);
+    }
+
+    @Test
+    void startupLoadAndPurge() throws Exception {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                stored("persisted", LocalDateTime.now().plusHours(1))));
+        TokenRevocationService service = new TokenRevocationService(repository, 1 << 16);
+
+        service.afterSingletonsInstantiated();
+        service.revoke("short-lived", System.currentTimeMillis() + 50);
+        Thread.sleep(100);
+        service.purgeExpired();
+
+        assertThat(service.isRevoked("persisted")).isTrue();
+        assertThat(service.isRevoked("short-lived")).isFalse();
+        assertThat(service.mightBeRevoked("short-lived")).isFalse();
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void refreshPicksUpTokensRevokedOnOtherInstances() {
+        TokenRevocationService service = new TokenRevocationService(repository, 1 << 16);
+        service.afterSingletonsInstantiated();
+        assertThat(service.isRevoked("elsewhere")).isFalse();
+
+        when(repository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                stored("elsewhere", LocalDateTime.now().plusHours(1)),
+                stored("elsewhere-expired", LocalDateTime.now().minusMinutes(1))));
+        service.refresh();
+
+        assertThat(service.isRevoked("elsewhere")).isTrue();
+        assertThat(service.isRevoked("elsewhere-expired")).isFalse();
+    }
+}
@@ -0,0 +1,279 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.dto.DashboardReportResponse;
+import com.sewa.common.event.StatsChangedEvent;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.dto.request.ChapterRequest;
+import com.sewa.dto.request.RegisterRequest;
+import com.sewa.entity.enums.ChapterType;
+import com.sewa.repository.ChapterRepository;
+import com.sewa.repository.MemberRepository;
+import com.sewa.repository.StudentRepository;
+import com.sewa.repository.UserRepository;
+import com.sewa.service.AuthService;
+import com.sewa.service.ChapterService;
+import com.sewa.service.DashboardStatsService;
+import com.sewa.service.MemberService;
+import com.sewa.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardStatsServiceImplTest {
+
+    private static final StatsChangedEvent USER_ADDED = new StatsChangedEvent(StatsChangedEvent.Subject.USER, null,
+            StatsChangedEvent.Bucket.COUNTED);
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private static ChapterRequest chapter(String name, ChapterType type) {
+        ChapterRequest request = new ChapterRequest();
+        request.setChapterName(name);
+        request.setLocation("Ranchi");
+        request.setChapterType(type);
+        return request;
+    }
+
+    /**
+     * Drives every write path that publishes a delta and checks after each one
+     * that the maintained aggregates equal a fresh database reload.
+     */
+    @Test
+    void maintainedAggregatesMatchTheDatabaseAfterEveryWrite() {
+        assertThat(dashboardStatsService.reconcile()).as("baseline").isZero();
+        String suffix = Long.toString(System.nanoTime(), 36);
+
+        authService.register(new RegisterRequest("m" + suffix, "m" + suffix + "@example.org", "Secret@123",
+                "MEMBER", "Drift Member"));
+        assertThat(dashboardStatsService.reconcile()).as("member registered").isZero();
+
+        authService.register(new RegisterRequest("s" + suffix, "s" + suffix + "@example.org", "Secret@123",
+                "STUDENT", "Drift Student"));
+        assertThat(dashboardStatsService.reconcile()).as("student registered").isZero();
+
+        Integer chapterId = chapterService.createChapter(chapter("Drift " + suffix, ChapterType.LOCAL)).getId();
+        assertThat(dashboardStatsService.reconcile()).as("chapter created").isZero();
+
+        chapterService.updateChapter(chapterId, chapter("Drift renamed " + suffix, null));
+        assertThat(dashboardStatsService.reconcile()).as("chapter renamed").isZero();
+
+        studentService.deleteStudent(studentRepository.findByUserUsername("s" + suffix).orElseThrow().getId());
+        assertThat(dashboardStatsService.reconcile()).as("student deleted").isZero();
+
+        memberService.deleteMember(memberRepository.findByUserUsername("m" + suffix).orElseThrow().getId());
+        assertThat(dashboardStatsService.reconcile()).as("member deleted").isZero();
+
+        chapterService.deleteChapter(chapterId);
+        assertThat(dashboardStatsService.reconcile()).as("chapter deleted").isZero();
+    }
+
+    @Test
+    void reloadRacingADeltaIsRetriedAndTheRetryIsBounded() {
+        AtomicInteger racingDeltas = new AtomicInteger();
+        AtomicInteger users = new AtomicInteger(10);
+        DashboardStatsServiceImpl stats = detached(racingDeltas, users);
+
+        // The first load races one delta committed after the users were counted
+        racingDeltas.set(1);
+        stats.reconcile();
+        assertThat(stats.getMetrics()).containsEntry("deltasBeforeLoad", 1L)
+                .containsEntry("skippedReconciliations", 1L)
+                .containsEntry("forcedReconciliations", 0L);
+        // The retry saw the committed row, so nothing was lost while not yet loaded
+        assertThat(stats.getSnapshot().report().getTotalUsers()).isEqualTo(11);
+
+        // Continuous writes cannot starve reconciliation
+        racingDeltas.set(Integer.MAX_VALUE);
+        stats.reconcile();
+        assertThat(stats.getMetrics())
+                .containsEntry("skippedReconciliations", (long) DashboardStatsServiceImpl.MAX_RECONCILE_ATTEMPTS)
+                .containsEntry("forcedReconciliations", 1L);
+        stats.shutdown();
+    }
+
+    /** A standalone instance whose user count commits {@code racingDeltas} writes while it is being read. */
+    private static DashboardStatsServiceImpl detached(AtomicInteger racingDeltas, AtomicInteger users) {
+        UserRepository userRepository = mock(UserRepository.class);
+        TableStatistics tableStatistics = mock(TableStatistics.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        DashboardStatsServiceImpl[] self = new DashboardStatsServiceImpl[1];
+        when(userRepository.count()).thenAnswer(invocation -> {
+            long counted = users.get();
+            if (racingDeltas.getAndUpdate(n -> n == Integer.MAX_VALUE ? n : Math.max(0, n - 1)) > 0) {
+                users.incrementAndGet();
+                self[0].onStatsChanged(USER_ADDED);
+            }
+            return counted;
+        });
+        ChapterRepository chapterRepository = mock(ChapterRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(memberRepository.countMembersByChapter()).thenReturn(List.of());
+        when(memberRepository.countMembersByEducationalLevel()).thenReturn(List.of());
+        when(memberRepository.countMembersByWorkingSector()).thenReturn(List.of());
+        when(studentRepository.countStudentsByChapter()).thenReturn(List.of());
+        when(studentRepository.countStudentsByEducationalLevel()).thenReturn(List.of());
+        self[0] = new DashboardStatsServiceImpl(userRepository, memberRepository, studentRepository,
+                chapterRepository, tableStatistics, transactionManager, 1, 5_000);
+        return self[0];
+    }
+
+    /** GROUPING flags (0 = grouped by that column), names, count: as PostgreSQL returns them */
+    private static Object[] memberRow(int chapterFlag, int levelFlag, int sectorFlag, String chapter, String level,
+            String sector, long count) {
+        return new Object[] { chapterFlag, levelFlag, sectorFlag, chapter, level, sector, count };
+    }
+
+    private static Object[] studentRow(int chapterFlag, int levelFlag, String chapter, String level, long count) {
+        return new Object[] { chapterFlag, levelFlag, chapter, level, count };
+    }
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ChapterRepository chapterRepository = mock(ChapterRepository.class);
+    private final MemberRepository members = mock(MemberRepository.class);
+    private final StudentRepository students = mock(StudentRepository.class);
+    private final TableStatistics postgres = mock(TableStatistics.class);
+
+    private DashboardStatsServiceImpl standalone(int parallelism, long queryTimeoutMs) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(postgres.isPostgres()).thenReturn(true);
+        return new DashboardStatsServiceImpl(userRepository, members, students, chapterRepository, postgres,
+                transactionManager, parallelism, queryTimeoutMs);
+    }
+
+    @Test
+    void groupingSetRowsMapToTheTotalAndEachBreakdown() {
+        when(members.aggregateMemberGroupings()).thenReturn(List.of(
+                memberRow(0, 1, 1, "Ranchi", null, null, 5),
+                memberRow(0, 1, 1, "Dumka", null, null, 3),
+                // Members without a chapter: grouped by chapter, but no name to report
+                memberRow(0, 1, 1, null, null, null, 1),
+                memberRow(1, 0, 1, null, "Graduate", null, 6),
+                memberRow(1, 0, 1, null, "Postgraduate", null, 3),
+                memberRow(1, 1, 0, null, null, "Government", 4),
+                memberRow(1, 1, 0, null, null, "Private", 5),
+                memberRow(1, 1, 1, null, null, null, 9)));
+        when(students.aggregateStudentGroupings()).thenReturn(List.of(
+                studentRow(0, 1, "Ranchi", null, 2),
+                studentRow(1, 0, null, "Diploma", 1),
+                studentRow(1, 0, null, "Graduate", 1),
+                studentRow(1, 1, null, null, 2)));
+        DashboardStatsServiceImpl stats = standalone(2, 5_000);
+
+        DashboardReportResponse report = stats.getSnapshot().report();
+
+        assertThat(report.getTotalMembers()).isEqualTo(9);
+        assertThat(report.getMembersByChapter()).isEqualTo(Map.of("Ranchi", 5L, "Dumka", 3L));
+        assertThat(report.getMembersByEducationalLevel()).isEqualTo(Map.of("Graduate", 6L, "Postgraduate", 3L));
+        assertThat(report.getMembersByWorkingSector()).isEqualTo(Map.of("Government", 4L, "Private", 5L));
+        assertThat(report.getTotalStudents()).isEqualTo(2);
+        assertThat(report.getStudentsByChapter()).isEqualTo(Map.of("Ranchi", 2L));
+        assertThat(report.getStudentsByEducationalLevel()).isEqualTo(Map.of("Diploma", 1L, "Graduate", 1L));
+        assertThat(report.getUnavailableSections()).isNull();
+        verify(members, never()).countActiveMembers();
+        verify(students, never()).countActiveStudents();
+        stats.shutdown();
+    }
+
+    @Test
+    void failedGroupingSetsQueryFallsBackToOneQueryPerGrouping() {
+        when(members.aggregateMemberGroupings()).thenThrow(new InvalidDataAccessResourceUsageException("GROUPING"));
+        when(members.countActiveMembers()).thenReturn(4L);
+        when(members.countMembersByChapter()).thenReturn(List.<Object[]>of(new Object[] { "Ranchi", 4L }));
+        when(members.countMembersByEducationalLevel()).thenReturn(List.of());
+        when(members.countMembersByWorkingSector()).thenReturn(List.of());
+        when(students.aggregateStudentGroupings()).thenReturn(List.<Object[]>of(studentRow(1, 1, null, null, 0)));
+        DashboardStatsServiceImpl stats = standalone(2, 5_000);
+
+        DashboardReportResponse report = stats.getSnapshot().report();
+
+        assertThat(report.getTotalMembers()).isEqualTo(4);
+        assertThat(report.getMembersByChapter()).isEqualTo(Map.of("Ranchi", 4L));
+        assertThat(report.getUnavailableSections()).isNull();
+        stats.shutdown();
+    }
+
+    /** Answers {@code value} after {@code millis}, like a slow query would */
+    private static <T> Answer<T> after(long millis, T value) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+
+    @Test
+    void sectionsLoadInParallelSoTheReloadTakesAboutAsLongAsTheSlowestOne() {
+        when(userRepository.count()).thenAnswer(after(300, 2L));
+        when(chapterRepository.countActiveChapters()).thenAnswer(after(300, 1L));
+        when(members.aggregateMemberGroupings()).thenAnswer(after(600, List.<Object[]>of(memberRow(1, 1, 1, null, null, null, 7))));
+        when(students.aggregateStudentGroupings()).thenAnswer(after(300, List.<Object[]>of(studentRow(1, 1, null, null, 4))));
+        DashboardStatsServiceImpl stats = standalone(4, 5_000);
+
+        DashboardReportResponse report = stats.getSnapshot().report();
+
+        assertThat(report.getTotalUsers()).isEqualTo(2);
+        assertThat(report.getTotalMembers()).isEqualTo(7);
+        assertThat(report.getUnavailableSections()).isNull();
+        // One after the other would take 1500 ms
+        assertThat((long) stats.getMetrics().get("lastLoadMillis")).isBetween(600L, 1_200L);
+        stats.shutdown();
+    }
+
+    @Test
+    void slowOrFailingSectionsAreReportedUnavailableWithoutHoldingUpTheRest() {
+        when(userRepository.count()).thenReturn(2L);
+        when(chapterRepository.countActiveChapters()).thenThrow(new InvalidDataAccessResourceUsageException("chapters"));
+        when(members.aggregateMemberGroupings()).thenAnswer(after(5_000, List.<Object[]>of()));
+        when(students.aggregateStudentGroupings()).thenReturn(List.<Object[]>of(studentRow(1, 1, null, null, 4)));
+        DashboardStatsServiceImpl stats = standalone(4, 500);
+
+        DashboardReportResponse report = stats.getSnapshot().report();
+
+        assertThat(report.getUnavailableSections()).containsExactly("chapters", "members");
+        assertThat(stats.getMetrics().get("lastUnavailableSections")).isEqualTo(List.of("chapters", "members"));
+        assertThat(report.getTotalUsers()).isEqualTo(2);
+        assertThat(report.getTotalStudents()).isEqualTo(4);
+        // Bounded by the section timeout, not by the stuck query
+        assertThat((long) stats.getMetrics().get("lastLoadMillis")).isBetween(500L, 2_000L);
+        stats.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+package com.sewa.service.impl;
+
+import com.sewa.dto.response.MemberResponse;
+import com.sewa.entity.EducationalLevelMaster;
+import com.sewa.repository.EducationalLevelRepository;
+import com.sewa.repository.MemberRepository;
+import com.sewa.service.MemberService;
+import com.sewa.support.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MasterDataIndexTest {
+
+    @Autowired
+    private MasterDataIndex masterDataIndex;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EducationalLevelRepository educationalLevelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void profileUpdateResolvesMastersWithoutQueryingThem() throws Exception {
+        StatementCounter statements = new StatementCounter(entityManagerFactory);
+        Integer memberId = memberRepository.findAll().get(0).getId();
+        MemberResponse profile = memberService.getMemberById(memberId);
+        String otherLevel = educationalLevelRepository.findAll().stream()
+                .map(EducationalLevelMaster::getName)
+                .filter(name -> !name.equals(profile.getEducationalLevel()))
+                .findFirst().orElseThrow();
+
+        profile.setPhone("9123456780");
+        long unchanged = statements.count(() -> memberService.updateMember(memberId, profile)).statements();
+
+        String originalLevel = profile.getEducationalLevel();
+        profile.setEducationalLevel(otherLevel);
+        StatementCounter.Counted<MemberResponse> changed = statements
+                .count(() -> memberService.updateMember(memberId, profile));
+
+        // Load the member with its detail graph, then one UPDATE; the new level is a proxy named from the index
+        assertThat(unchanged).isEqualTo(2);
+        assertThat(changed.statements()).isEqualTo(unchanged);
+        assertThat(changed.result().getEducationalLevel()).isEqualTo(otherLevel);
+
+        if (originalLevel != null) {
+            profile.setEducationalLevel(originalLevel);
+            memberService.updateMember(memberId, profile);
+        }
+    }
+
+    @Test
+    void periodicReloadPicksUpRenamesMadeElsewhere() {
+        EducationalLevelMaster level = educationalLevelRepository.findAll().get(0);
+        String original = level.getName();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        // Another instance renames the master: no event reaches this one
+        jdbcTemplate.update("UPDATE educational_levels SET name = ? WHERE id = ?", original + " (renamed)",
+                level.getId());
+        try {
+            String stale = tx.execute(status -> masterDataIndex
+                    .nameOf(educationalLevelRepository.getReferenceById(level.getId())));
+            assertThat(stale).isEqualTo(original);
+
+            masterDataIndex.scheduledReload();
+
+            String fresh = tx.execute(status -> masterDataIndex
+                    .nameOf(educationalLevelRepository.getReferenceById(level.getId())));
+            assertThat(fresh).isEqualTo(original + " (renamed)");
+        } finally {
+            jdbcTemplate.update("UPDATE educational_levels SET name = ? WHERE id = ?", original, level.getId());
+            masterDataIndex.scheduledReload();
+        }
+    }
+}
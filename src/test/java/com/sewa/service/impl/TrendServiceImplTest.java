@@ -0,0 +1,196 @@
+package com.sewa.service.impl;
+
+import com.sewa.common.event.TrendChangedEvent;
+import com.sewa.common.service.TableStatistics;
+import com.sewa.dto.response.TrendPoint;
+import com.sewa.dto.response.TrendSeriesResponse;
+import com.sewa.entity.Member;
+import com.sewa.entity.enums.TrendMetric;
+import com.sewa.repository.ChapterRepository;
+import com.sewa.repository.DailyRollupRepository;
+import com.sewa.repository.MemberRepository;
+import com.sewa.service.MemberService;
+import com.sewa.service.TrendService;
+import com.sewa.service.TrendService.Granularity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendServiceImplTest {
+
+    /** No such chapter exists, so the round trips only see their own rows */
+    private static final int CHAPTER = 987_654;
+
+    @Autowired
+    private TrendService trendService;
+
+    @Autowired
+    private TrendServiceImpl trends;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final DailyRollupRepository rollups = mock(DailyRollupRepository.class);
+
+    /** Reads from a mocked repository, so only the period arithmetic is under test */
+    private TrendServiceImpl overRollups(Object[]... days) {
+        when(rollups.sumByDay(eq(TrendMetric.FEES_COLLECTED), any(), any(), any(), any())).thenReturn(List.of(days));
+        return new TrendServiceImpl(rollups, mock(ChapterRepository.class), mock(JdbcTemplate.class),
+                mock(TableStatistics.class), mock(PlatformTransactionManager.class), 1830, 400);
+    }
+
+    private static Object[] day(String date, long count, String amount) {
+        return new Object[] { LocalDate.parse(date), count, new BigDecimal(amount) };
+    }
+
+    private static List<Long> counts(TrendSeriesResponse series) {
+        return series.getPoints().stream().map(TrendPoint::getCount).toList();
+    }
+
+    @Test
+    void daysWithoutRollupsAreZeroFilled() {
+        TrendSeriesResponse series = overRollups(day("2024-01-02", 3, "30"), day("2024-01-04", 2, "20"))
+                .getSeries(TrendMetric.FEES_COLLECTED, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-01-05"),
+                        Granularity.DAY, null, null, null);
+
+        assertThat(counts(series)).containsExactly(0L, 3L, 0L, 2L, 0L);
+        assertThat(series.getPoints().get(0).getAmount()).isEqualByComparingTo("0");
+        assertThat(series.getPoints().get(4).getPeriodStart()).isEqualTo(LocalDate.parse("2024-01-05"));
+        assertThat(series.getTotalCount()).isEqualTo(5);
+        assertThat(series.getTotalAmount()).isEqualByComparingTo("50");
+    }
+
+    @Test
+    void weeksStartOnMondayAndAreClippedToTheRange() {
+        // Wednesday to Wednesday
+        TrendSeriesResponse series = overRollups(day("2024-01-07", 1, "0"), day("2024-01-08", 2, "0"),
+                day("2024-01-17", 4, "0"))
+                .getSeries(TrendMetric.FEES_COLLECTED, LocalDate.parse("2024-01-03"), LocalDate.parse("2024-01-17"),
+                        Granularity.WEEK, null, null, null);
+
+        assertThat(series.getPoints()).extracting(TrendPoint::getPeriodStart, TrendPoint::getPeriodEnd)
+                .containsExactly(
+                        tuple(LocalDate.parse("2024-01-03"), LocalDate.parse("2024-01-07")),
+                        tuple(LocalDate.parse("2024-01-08"), LocalDate.parse("2024-01-14")),
+                        tuple(LocalDate.parse("2024-01-15"), LocalDate.parse("2024-01-17")));
+        assertThat(counts(series)).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void monthsStartOnTheFirstAndAreClippedToTheRange() {
+        TrendSeriesResponse series = overRollups(day("2024-01-31", 1, "0"), day("2024-02-01", 2, "0"),
+                day("2024-02-29", 3, "0"), day("2024-03-10", 4, "0"))
+                .getSeries(TrendMetric.FEES_COLLECTED, LocalDate.parse("2024-01-15"), LocalDate.parse("2024-03-10"),
+                        Granularity.MONTH, null, null, null);
+
+        assertThat(series.getPoints()).extracting(TrendPoint::getPeriodStart)
+                .containsExactly(LocalDate.parse("2024-01-15"), LocalDate.parse("2024-02-01"),
+                        LocalDate.parse("2024-03-01"));
+        assertThat(series.getPoints()).extracting(TrendPoint::getPeriodEnd)
+                .containsExactly(LocalDate.parse("2024-01-31"), LocalDate.parse("2024-02-29"),
+                        LocalDate.parse("2024-03-10"));
+        assertThat(counts(series)).containsExactly(1L, 5L, 4L);
+    }
+
+    @Test
+    void downsamplingSumsPeriodsWithoutLosingTheTotal() {
+        List<Object[]> year = new ArrayList<>();
+        for (LocalDate d = LocalDate.parse("2024-01-01"); d.getYear() == 2024; d = d.plusDays(1)) {
+            year.add(day(d.toString(), d.getDayOfMonth(), "2.50"));
+        }
+        TrendSeriesResponse series = overRollups(year.toArray(Object[][]::new))
+                .getSeries(TrendMetric.FEES_COLLECTED, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-12-31"),
+                        Granularity.DAY, null, null, 50);
+
+        // 366 days at most 50 points: 8 days per point
+        assertThat(series.getPeriodsPerPoint()).isEqualTo(8);
+        assertThat(series.getPoints()).hasSize(46);
+        long total = year.stream().mapToLong(row -> (long) row[1]).sum();
+        assertThat(series.getTotalCount()).isEqualTo(total);
+        assertThat(series.getPoints().stream().mapToLong(TrendPoint::getCount).sum()).isEqualTo(total);
+        assertThat(series.getPoints().stream().map(TrendPoint::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("915.00");
+        assertThat(series.getPoints().get(0).getPeriodEnd()).isEqualTo(LocalDate.parse("2024-01-08"));
+        assertThat(series.getPoints().get(45).getPeriodEnd()).isEqualTo(LocalDate.parse("2024-12-31"));
+    }
+
+    @Test
+    void deltasAreUpsertedIntoTheRollupsAndReadBack() {
+        LocalDate paid = LocalDate.parse("2001-03-15");
+        try {
+            trends.onTrendChanged(TrendChangedEvent.of(fee(paid, 1, "100")));
+            trends.onTrendChanged(TrendChangedEvent.of(fee(paid, 1, "250"), fee(paid.plusDays(1), 1, "50")));
+            // An edited fee: the old contribution removed, the new one added
+            trends.onTrendChanged(TrendChangedEvent.of(fee(paid, -1, "-100"), fee(paid, 1, "120")));
+
+            TrendSeriesResponse series = trendService.getSeries(TrendMetric.FEES_COLLECTED, paid, paid.plusDays(2),
+                    Granularity.DAY, CHAPTER, null, null);
+
+            assertThat(counts(series)).containsExactly(2L, 1L, 0L);
+            assertThat(series.getPoints().get(0).getAmount()).isEqualByComparingTo("370");
+            assertThat(series.getTotalAmount()).isEqualByComparingTo("420");
+            // Upserted, not appended
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_rollups WHERE chapter_id = ?",
+                    Long.class, CHAPTER)).isEqualTo(2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM daily_rollups WHERE chapter_id = ?", CHAPTER);
+        }
+    }
+
+    @Test
+    void settingTheStatusToActiveCountsAsAnApproval() {
+        Member member = memberRepository.findAll().get(0);
+        Integer chapterId = member.getChapter() != null ? member.getChapter().getId() : null;
+        String previous = jdbcTemplate.queryForObject("SELECT membership_status FROM members WHERE member_id = ?",
+                String.class, member.getId());
+        jdbcTemplate.update("UPDATE members SET membership_status = 'PENDING' WHERE member_id = ?", member.getId());
+        long before = approvedToday(chapterId);
+        try {
+            memberService.updateMemberStatus(member.getId(), "active");
+            assertThat(approvedToday(chapterId)).isEqualTo(before + 1);
+
+            // Already active: nothing new to count
+            memberService.updateMemberStatus(member.getId(), "ACTIVE");
+            assertThat(approvedToday(chapterId)).isEqualTo(before + 1);
+        } finally {
+            trends.onTrendChanged(new TrendChangedEvent(List.of(new TrendChangedEvent.Delta(
+                    TrendMetric.MEMBERS_APPROVED, LocalDate.now(), chapterId != null ? chapterId : 0, "", -1,
+                    BigDecimal.ZERO))));
+            jdbcTemplate.update("UPDATE members SET membership_status = ? WHERE member_id = ?", previous,
+                    member.getId());
+        }
+    }
+
+    private long approvedToday(Integer chapterId) {
+        return trendService.getSeries(TrendMetric.MEMBERS_APPROVED, LocalDate.now(), LocalDate.now(), Granularity.DAY,
+                chapterId != null ? chapterId : 0, null, null).getTotalCount();
+    }
+
+    private static TrendChangedEvent.Delta fee(LocalDate day, int sign, String amount) {
+        return new TrendChangedEvent.Delta(TrendMetric.FEES_COLLECTED, day, CHAPTER, "2000-01", sign,
+                new BigDecimal(amount));
+    }
+}
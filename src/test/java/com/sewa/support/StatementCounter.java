@@ -0,0 +1,38 @@
+package com.sewa.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while an action runs; needs
+ * {@code hibernate.generate_statistics=true} (set by the {@code test} profile).
+ */
+public final class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics is off");
+        }
+    }
+
+    public long count(Runnable action) {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    public <T> Counted<T> count(Callable<T> action) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        T result = action.call();
+        return new Counted<>(result, statistics.getPrepareStatementCount() - before);
+    }
+
+    public record Counted<T>(T result, long statements) {
+    }
+}